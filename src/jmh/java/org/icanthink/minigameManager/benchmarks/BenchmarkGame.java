@@ -0,0 +1,61 @@
+package org.icanthink.minigameManager.benchmarks;
+
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.features.Feature;
+
+/**
+ * Minigame with no rules of its own, for running features in benchmarks.
+ * Features are added but never enabled, so nothing is registered with the server.
+ */
+public class BenchmarkGame extends Minigame {
+
+    public BenchmarkGame() {
+        this(Fakes.world());
+    }
+
+    public BenchmarkGame(World world) {
+        super(world);
+    }
+
+    /**
+     * Add a feature to the game.
+     *
+     * @param feature The feature to add
+     * @return The added feature
+     */
+    public <T extends Feature> T with(T feature) {
+        addFeature(feature);
+        return feature;
+    }
+
+    /**
+     * Add a player to the game.
+     *
+     * @param player The player to add
+     */
+    public void join(Player player) {
+        addPlayer(player);
+    }
+
+    @Override
+    public void minigameStart() {
+    }
+
+    @Override
+    public void minigameEnd() {
+    }
+
+    @Override
+    public void playerRejoin(Player player) {
+    }
+
+    @Override
+    public void playerJoin(Player player) {
+    }
+
+    @Override
+    public void playerLeave(Player player) {
+    }
+}
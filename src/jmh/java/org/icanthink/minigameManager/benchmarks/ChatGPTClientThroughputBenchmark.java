@@ -0,0 +1,83 @@
+package org.icanthink.minigameManager.benchmarks;
+
+import org.icanthink.minigameManager.utils.CachingCommandGenerator;
+import org.icanthink.minigameManager.utils.ChatGPTClient;
+import org.icanthink.minigameManager.utils.CommandGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many wishes per second the ChatGPT client gets through against a local stand-in
+ * server, with and without the response cache in front of it.
+ * Run with: ./gradlew jmh -PjmhIncludes=ChatGPTClientThroughput
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatGPTClientThroughputBenchmark {
+    private static final int BATCH = 32;
+    private static final int DISTINCT_PROMPTS = 8; // Repeated prompts give the cache something to hit
+
+    @Param({"0", "50"})
+    private long latencyMillis;
+
+    @Param({"1", "8"})
+    private int maxConcurrent;
+
+    private LocalCompletionServer server;
+    private ChatGPTClient client;
+    private CommandGenerator cached;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = new LocalCompletionServer(latencyMillis);
+        client = new ChatGPTClient(server.getUrl(), "test", "local", 30, 0, maxConcurrent);
+        cached = new CachingCommandGenerator(client, DISTINCT_PROMPTS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.shutdown();
+        server.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void uncached() {
+        run(client);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void cached() {
+        run(cached);
+    }
+
+    private void run(CommandGenerator generator) {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            responses[i] = generator.generate("I wish for diamonds #" + (next++ % DISTINCT_PROMPTS));
+        }
+        CompletableFuture.allOf(responses).join();
+    }
+}
@@ -0,0 +1,154 @@
+package org.icanthink.minigameManager.benchmarks;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.features.items.CustomItem;
+import org.icanthink.minigameManager.features.items.CustomItemManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the plugin's own custom item checks, run for every interact, click and place event.
+ * Stacks are mostly custom items spread over several registered types, with some plain stacks mixed in.
+ * Run with: ./gradlew jmh -PjmhIncludes=CustomItemBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomItemBenchmark {
+    private static final List<Class<? extends CustomItem>> ITEM_CLASSES = List.of(
+        Item0.class, Item1.class, Item2.class, Item3.class, Item4.class, Item5.class, Item6.class, Item7.class);
+    private static final int STACK_COUNT = 1024;
+
+    private CustomItemManager itemManager;
+    private CustomItem item;
+    private ItemStack[] stacks;
+    private int next;
+
+    @Setup
+    public void setup() {
+        BenchmarkGame game = new BenchmarkGame();
+        itemManager = game.with(new CustomItemManager(game));
+        for (Class<? extends CustomItem> itemClass : ITEM_CLASSES) {
+            itemManager.getOrCreateItem(itemClass);
+        }
+        item = itemManager.getOrCreateItem(Item0.class);
+
+        Random random = new Random(42);
+        stacks = new ItemStack[STACK_COUNT];
+        for (int i = 0; i < STACK_COUNT; i++) {
+            if (random.nextInt(10) == 0) {
+                stacks[i] = new FakeItemStack(Material.STONE);
+            } else {
+                Class<? extends CustomItem> itemClass = ITEM_CLASSES.get(random.nextInt(ITEM_CLASSES.size()));
+                stacks[i] = new FakeItemStack(Material.STICK)
+                    .with(CustomItem.ITEM_ID_KEY, CustomItem.getItemId(itemClass).toString());
+            }
+        }
+    }
+
+    private ItemStack nextStack() {
+        ItemStack stack = stacks[next];
+        next = (next + 1) & (STACK_COUNT - 1);
+        return stack;
+    }
+
+    @Benchmark
+    public boolean isInstance() {
+        return item.isInstance(nextStack());
+    }
+
+    @Benchmark
+    public CustomItem getCustomItem() {
+        return itemManager.getCustomItem(nextStack());
+    }
+
+    /**
+     * Item with no behavior. Each subclass is a separate item type with its own id.
+     */
+    public abstract static class BenchmarkItem extends CustomItem {
+
+        public BenchmarkItem(Minigame minigame) {
+            super(minigame);
+        }
+
+        @Override
+        protected String getName() {
+            return getClass().getSimpleName();
+        }
+
+        @Override
+        protected Material getMaterial() {
+            return Material.STICK;
+        }
+
+        @Override
+        protected List<String> getLore() {
+            return List.of();
+        }
+    }
+
+    public static class Item0 extends BenchmarkItem {
+        public Item0(Minigame minigame) {
+            super(minigame);
+        }
+    }
+
+    public static class Item1 extends BenchmarkItem {
+        public Item1(Minigame minigame) {
+            super(minigame);
+        }
+    }
+
+    public static class Item2 extends BenchmarkItem {
+        public Item2(Minigame minigame) {
+            super(minigame);
+        }
+    }
+
+    public static class Item3 extends BenchmarkItem {
+        public Item3(Minigame minigame) {
+            super(minigame);
+        }
+    }
+
+    public static class Item4 extends BenchmarkItem {
+        public Item4(Minigame minigame) {
+            super(minigame);
+        }
+    }
+
+    public static class Item5 extends BenchmarkItem {
+        public Item5(Minigame minigame) {
+            super(minigame);
+        }
+    }
+
+    public static class Item6 extends BenchmarkItem {
+        public Item6(Minigame minigame) {
+            super(minigame);
+        }
+    }
+
+    public static class Item7 extends BenchmarkItem {
+        public Item7(Minigame minigame) {
+            super(minigame);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.icanthink.minigameManager.benchmarks;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
+import org.icanthink.minigameManager.features.items.CustomItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving an ItemStack to its custom item by scanning every registered item
+ * (clone the meta, re-hash the class name, compare) against a single id read and map lookup.
+ * Run with: ./gradlew jmh -PjmhIncludes=CustomItemLookup
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomItemLookupBenchmark {
+    private static final int STACK_COUNT = 1024;
+
+    @Param({"10", "100", "1000"})
+    private int registeredItems;
+
+    private String[] itemClassNames;
+    private Map<String, String> itemsById;
+    private ItemStack[] stacks;
+    private int next;
+
+    @Setup
+    public void setup() {
+        itemClassNames = new String[registeredItems];
+        itemsById = new HashMap<>();
+        for (int i = 0; i < registeredItems; i++) {
+            itemClassNames[i] = "org.icanthink.minigameManager.features.items.GeneratedItem" + i;
+            itemsById.put(UUID.nameUUIDFromBytes(itemClassNames[i].getBytes()).toString(), itemClassNames[i]);
+        }
+
+        // Mostly custom items spread over all registered types, with some plain stacks mixed in
+        Random random = new Random(42);
+        stacks = new ItemStack[STACK_COUNT];
+        for (int i = 0; i < STACK_COUNT; i++) {
+            if (random.nextInt(10) == 0) {
+                stacks[i] = new FakeItemStack(Material.STONE);
+            } else {
+                String className = itemClassNames[random.nextInt(registeredItems)];
+                stacks[i] = new FakeItemStack(Material.STICK)
+                    .with(CustomItem.ITEM_ID_KEY, UUID.nameUUIDFromBytes(className.getBytes()).toString());
+            }
+        }
+    }
+
+    private ItemStack nextStack() {
+        ItemStack stack = stacks[next];
+        next = (next + 1) & (STACK_COUNT - 1);
+        return stack;
+    }
+
+    @Benchmark
+    public String legacyScan() {
+        ItemStack stack = nextStack();
+        for (String className : itemClassNames) {
+            if (stack == null || !stack.hasItemMeta()) continue;
+
+            String storedId = stack.getItemMeta().getPersistentDataContainer()
+                .get(CustomItem.ITEM_ID_KEY, PersistentDataType.STRING);
+            if (storedId != null && storedId.equals(UUID.nameUUIDFromBytes(className.getBytes()).toString())) {
+                return className;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String indexedLookup() {
+        ItemStack stack = nextStack();
+        if (stack == null || !stack.hasItemMeta()) return null;
+
+        String storedId = stack.getPersistentDataContainer().get(CustomItem.ITEM_ID_KEY, PersistentDataType.STRING);
+        return storedId == null ? null : itemsById.get(storedId);
+    }
+}
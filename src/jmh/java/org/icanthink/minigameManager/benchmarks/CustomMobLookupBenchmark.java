@@ -0,0 +1,101 @@
+package org.icanthink.minigameManager.benchmarks;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.LivingEntity;
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.features.mobs.CustomMob;
+import org.icanthink.minigameManager.features.mobs.CustomMobManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures resolving an entity to its custom mob, run for every damage, death and target event.
+ * Half of the looked up entities are custom mobs, the other half are plain entities.
+ * Run with: ./gradlew jmh -PjmhIncludes=CustomMobLookup
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomMobLookupBenchmark {
+    private static final int ENTITY_COUNT = 1024;
+
+    @Param({"10", "100", "1000"})
+    private int spawnedMobs;
+
+    private CustomMobManager mobManager;
+    private Entity[] entities;
+    private int next;
+
+    @Setup
+    public void setup() {
+        List<LivingEntity> spawned = new ArrayList<>();
+        World world = Fakes.world(spawned);
+        BenchmarkGame game = new BenchmarkGame(world);
+        mobManager = game.with(new CustomMobManager(game));
+
+        Location location = new Location(world, 0, 64, 0);
+        for (int i = 0; i < spawnedMobs; i++) {
+            mobManager.spawnMob(location, BenchmarkMob.class);
+        }
+
+        List<Entity> lookups = new ArrayList<>(ENTITY_COUNT);
+        Random random = new Random(42);
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            lookups.add(i % 2 == 0 ? spawned.get(random.nextInt(spawned.size())) : Fakes.entity());
+        }
+        Collections.shuffle(lookups, random);
+        entities = lookups.toArray(new Entity[0]);
+    }
+
+    @Benchmark
+    public CustomMob findCustomMob() {
+        Entity entity = entities[next];
+        next = (next + 1) & (ENTITY_COUNT - 1);
+        return mobManager.findCustomMob(entity);
+    }
+
+    /**
+     * Mob with no behavior and no boss bar.
+     */
+    public static class BenchmarkMob extends CustomMob {
+
+        public BenchmarkMob(Minigame minigame) {
+            super(minigame);
+        }
+
+        @Override
+        protected String getName() {
+            return "Benchmark Mob";
+        }
+
+        @Override
+        protected EntityType getEntityType() {
+            return EntityType.ZOMBIE;
+        }
+
+        @Override
+        protected void customizeMob(LivingEntity entity) {
+        }
+    }
+}
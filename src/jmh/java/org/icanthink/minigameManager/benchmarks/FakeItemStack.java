@@ -0,0 +1,89 @@
+package org.icanthink.minigameManager.benchmarks;
+
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ItemStack stand-in for benchmarks that run without a server.
+ * Like a real stack, {@link #getItemMeta()} hands out a copy of the stored data on every call,
+ * while {@link #getPersistentDataContainer()} reads the stored data directly.
+ */
+public class FakeItemStack extends ItemStack {
+    private final Material type;
+    private final Map<NamespacedKey, Object> data;
+
+    public FakeItemStack(Material type) {
+        this(type, new HashMap<>());
+    }
+
+    private FakeItemStack(Material type, Map<NamespacedKey, Object> data) {
+        super();
+        this.type = type;
+        this.data = data;
+    }
+
+    /**
+     * Store a value in the stack's persistent data.
+     *
+     * @param key The key to store under
+     * @param value The value to store
+     * @return This stack
+     */
+    public FakeItemStack with(NamespacedKey key, Object value) {
+        data.put(key, value);
+        return this;
+    }
+
+    @Override
+    public Material getType() {
+        return type;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return type == Material.AIR;
+    }
+
+    @Override
+    public boolean hasItemMeta() {
+        return !data.isEmpty();
+    }
+
+    @Override
+    public ItemMeta getItemMeta() {
+        PersistentDataContainer container = container(new HashMap<>(data));
+        return (ItemMeta) Proxy.newProxyInstance(ItemMeta.class.getClassLoader(), new Class<?>[] {ItemMeta.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getPersistentDataContainer" -> container;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    @Override
+    public PersistentDataContainerView getPersistentDataContainer() {
+        return container(data);
+    }
+
+    private static PersistentDataContainer container(Map<NamespacedKey, Object> values) {
+        return (PersistentDataContainer) Proxy.newProxyInstance(PersistentDataContainer.class.getClassLoader(),
+            new Class<?>[] {PersistentDataContainer.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "get" -> values.get((NamespacedKey) args[0]);
+                case "has" -> values.containsKey((NamespacedKey) args[0]);
+                case "isEmpty" -> values.isEmpty();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
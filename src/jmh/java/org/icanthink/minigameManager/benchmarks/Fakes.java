@@ -0,0 +1,123 @@
+package org.icanthink.minigameManager.benchmarks;
+
+import org.bukkit.ChatColor;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Stand-ins for server objects, so plugin code can run in benchmarks without a server.
+ * Each fake has a fixed UUID and compares by identity like a live entity. Methods without a
+ * canned answer do nothing and return null, false or 0.
+ */
+public final class Fakes {
+
+    private Fakes() {
+    }
+
+    /**
+     * Create an online player.
+     *
+     * @param name The player's name
+     * @return The fake player
+     */
+    public static Player player(String name) {
+        return fake(Player.class, UUID.nameUUIDFromBytes(name.getBytes()), Map.of(
+            "getName", args -> name,
+            "isOnline", args -> true,
+            "getPersistentDataContainer", args -> dataContainer()));
+    }
+
+    /**
+     * Create a living entity that accepts tags and name changes.
+     *
+     * @return The fake entity
+     */
+    public static LivingEntity entity() {
+        PersistentDataContainer data = dataContainer();
+        return fake(LivingEntity.class, UUID.randomUUID(), Map.of(
+            "isValid", args -> true,
+            "getPersistentDataContainer", args -> data));
+    }
+
+    /**
+     * Create a world that spawns {@link #entity()} fakes.
+     *
+     * @return The fake world
+     */
+    public static World world() {
+        return world(new ArrayList<>());
+    }
+
+    /**
+     * Create a world that spawns {@link #entity()} fakes and collects them.
+     *
+     * @param spawned List the spawned entities are added to
+     * @return The fake world
+     */
+    public static World world(List<LivingEntity> spawned) {
+        return fake(World.class, UUID.randomUUID(), Map.of(
+            "getName", args -> "benchmark",
+            "spawnEntity", args -> {
+                LivingEntity entity = entity();
+                spawned.add(entity);
+                return entity;
+            }));
+    }
+
+    /**
+     * Create a scoreboard whose teams accept entries but keep no state.
+     *
+     * @return The fake scoreboard
+     */
+    public static Scoreboard scoreboard() {
+        return fake(Scoreboard.class, UUID.randomUUID(), Map.of(
+            "registerNewTeam", args -> fake(Team.class, UUID.randomUUID(), Map.of(
+                "getName", teamArgs -> args[0],
+                "getColor", teamArgs -> ChatColor.WHITE,
+                "getEntries", teamArgs -> Set.of()))));
+    }
+
+    private static PersistentDataContainer dataContainer() {
+        return fake(PersistentDataContainer.class, UUID.randomUUID(), Map.of());
+    }
+
+    private static <T> T fake(Class<T> type, UUID id, Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> {
+                Function<Object[], Object> answer = answers.get(method.getName());
+                if (answer != null) return answer.apply(args);
+
+                return switch (method.getName()) {
+                    case "getUniqueId" -> id;
+                    case "hashCode" -> id.hashCode();
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + "[" + id + "]";
+                    default -> defaultValue(method.getReturnType());
+                };
+            }));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == float.class) return 0f;
+        if (type == double.class) return 0d;
+        if (type == long.class) return 0L;
+        if (type == int.class) return 0;
+        if (type == short.class) return (short) 0;
+        return (byte) 0;
+    }
+}
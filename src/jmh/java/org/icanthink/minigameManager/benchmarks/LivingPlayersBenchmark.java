@@ -0,0 +1,77 @@
+package org.icanthink.minigameManager.benchmarks;
+
+import org.bukkit.entity.Player;
+import org.icanthink.minigameManager.features.DeathManager;
+import org.icanthink.minigameManager.features.TeamManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the living player queries that win conditions run after every death.
+ * Players are spread over four teams, and a quarter of them are dead.
+ * Run with: ./gradlew jmh -PjmhIncludes=LivingPlayers
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LivingPlayersBenchmark {
+    private static final String[] TEAM_COLORS = {"RED", "BLUE", "GREEN", "YELLOW"};
+
+    @Param({"8", "32", "100"})
+    private int playerCount;
+
+    private TeamManager teamManager;
+    private DeathManager deathManager;
+
+    @Setup
+    public void setup() {
+        BenchmarkGame game = new BenchmarkGame();
+        teamManager = game.with(new TeamManager(game, Fakes.scoreboard(), TEAM_COLORS));
+        deathManager = game.with(new DeathManager(game));
+
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            Player player = Fakes.player("player" + i);
+            game.join(player);
+            players.add(player);
+        }
+        for (int i = 0; i < playerCount; i++) {
+            teamManager.addPlayerToTeam(players.get(i), TEAM_COLORS[i % TEAM_COLORS.length]);
+        }
+        for (int i = 0; i < playerCount; i += 4) {
+            deathManager.setPlayerAsDead(players.get(i));
+        }
+    }
+
+    @Benchmark
+    public List<Player> getLivingPlayers() {
+        return deathManager.getLivingPlayers();
+    }
+
+    @Benchmark
+    public Map<String, Integer> getTeamLivingPlayers() {
+        return teamManager.getTeamLivingPlayers();
+    }
+
+    @Benchmark
+    public int getTeamsAliveCount() {
+        return teamManager.getTeamsAliveCount();
+    }
+}
@@ -0,0 +1,128 @@
+package org.icanthink.minigameManager.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.icanthink.minigameManager.utils.LocalCommandGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An in-process stand-in for the chat completions endpoint, answering with {@link LocalCommandGenerator}.
+ * Used to measure the client's throughput without a network or an API key.
+ */
+public class LocalCompletionServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LocalCommandGenerator generator = new LocalCommandGenerator();
+    private final long latencyMillis;
+
+    /**
+     * Start the server on a free local port.
+     *
+     * @param latencyMillis Simulated time the model takes to answer
+     * @throws IOException If the server could not be started
+     */
+    public LocalCompletionServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", this::handle);
+        server.start();
+    }
+
+    /**
+     * Get the URL to point the client at.
+     *
+     * @return The chat completions URL of this server
+     */
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String prompt;
+        boolean stream;
+        try (InputStream body = exchange.getRequestBody()) {
+            JsonObject request = JsonParser.parseString(new String(body.readAllBytes(), StandardCharsets.UTF_8))
+                .getAsJsonObject();
+            prompt = request.getAsJsonArray("messages").get(0).getAsJsonObject().get("content").getAsString();
+            stream = request.has("stream") && request.get("stream").getAsBoolean();
+        }
+
+        String content = generator.respond(prompt);
+        if (stream) {
+            stream(exchange, content);
+            return;
+        }
+
+        sleep(latencyMillis);
+        JsonObject message = new JsonObject();
+        message.addProperty("role", "assistant");
+        message.addProperty("content", content);
+        JsonObject choice = new JsonObject();
+        choice.add("message", message);
+        JsonArray choices = new JsonArray();
+        choices.add(choice);
+        JsonObject response = new JsonObject();
+        response.add("choices", choices);
+
+        byte[] bytes = response.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Answer as server-sent events, one chunk per line, spreading the latency over the chunks.
+     */
+    private void stream(HttpExchange exchange, String content) throws IOException {
+        String[] lines = content.split("\n");
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < lines.length; i++) {
+                sleep(latencyMillis / lines.length);
+                JsonObject delta = new JsonObject();
+                delta.addProperty("content", i < lines.length - 1 ? lines[i] + "\n" : lines[i]);
+                JsonObject choice = new JsonObject();
+                choice.add("delta", delta);
+                JsonArray choices = new JsonArray();
+                choices.add(choice);
+                JsonObject chunk = new JsonObject();
+                chunk.add("choices", choices);
+
+                out.write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
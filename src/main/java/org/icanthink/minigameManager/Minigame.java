@@ -1,15 +1,29 @@
 package org.icanthink.minigameManager;
 
+import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
+import org.bukkit.event.Listener;
+import org.bukkit.scoreboard.Scoreboard;
+import org.icanthink.minigameManager.events.GameIndex;
+import org.icanthink.minigameManager.features.AbilityTicker;
+import org.icanthink.minigameManager.features.CompassTracker;
+import org.icanthink.minigameManager.features.DeathManager;
 import org.icanthink.minigameManager.features.Feature;
+import org.icanthink.minigameManager.features.Sidebar;
 import org.icanthink.minigameManager.features.items.CustomItemManager;
 import org.icanthink.minigameManager.features.mobs.CustomMobManager;
+import org.icanthink.minigameManager.games.GameRegistry;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract class representing a minigame.
@@ -17,9 +31,13 @@ import java.util.Map;
  */
 public abstract class Minigame {
 
-    private List<Player> players;
+    private final Set<UUID> playerIds;
+    private final Map<UUID, Player> onlinePlayers;
+    private volatile List<Player> playerView;
     private World world;
+    private Scoreboard scoreboard;
     private boolean isRunning;
+    private boolean ended;
     private final Map<Class<? extends Feature>, Feature> features;
 
     /**
@@ -28,10 +46,12 @@ public abstract class Minigame {
      * @param world The world where the minigame takes place
      */
     public Minigame(World world) {
-        this.players = new ArrayList<>();
+        this.playerIds = ConcurrentHashMap.newKeySet();
+        this.onlinePlayers = new LinkedHashMap<>();
+        this.playerView = Collections.emptyList();
         this.world = world;
         this.isRunning = false;
-        this.features = new HashMap<>();
+        this.features = new LinkedHashMap<>();
     }
 
     /**
@@ -54,6 +74,15 @@ public abstract class Minigame {
         return (T) features.get(featureClass);
     }
 
+    /**
+     * Get all features of the minigame, in the order they were added.
+     *
+     * @return Unmodifiable collection of features
+     */
+    public Collection<Feature> getFeatures() {
+        return Collections.unmodifiableCollection(features.values());
+    }
+
     /**
      * Get the CustomItemManager for this minigame.
      *
@@ -72,6 +101,47 @@ public abstract class Minigame {
         return getFeature(CustomMobManager.class);
     }
 
+    /**
+     * Get the AbilityTicker for this minigame.
+     *
+     * @return The AbilityTicker instance, or null if not found
+     */
+    public AbilityTicker getAbilityTicker() {
+        return getFeature(AbilityTicker.class);
+    }
+
+    /**
+     * Get the CompassTracker for this minigame.
+     *
+     * @return The CompassTracker instance, or null if not found
+     */
+    public CompassTracker getCompassTracker() {
+        return getFeature(CompassTracker.class);
+    }
+
+    /**
+     * Get the Sidebar for this minigame.
+     *
+     * @return The Sidebar instance, or null if not found
+     */
+    public Sidebar getSidebar() {
+        return getFeature(Sidebar.class);
+    }
+
+    /**
+     * Get the scoreboard owned by this minigame, creating it on first use.
+     * Teams and the sidebar are registered here instead of on the main scoreboard, so games running
+     * at the same time do not see each other's entries. Players are shown it while the game runs.
+     *
+     * @return The minigame's scoreboard
+     */
+    public Scoreboard getScoreboard() {
+        if (scoreboard == null) {
+            scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        }
+        return scoreboard;
+    }
+
     /**
      * Called when the minigame starts.
      */
@@ -104,12 +174,42 @@ public abstract class Minigame {
     public abstract void playerLeave(Player player);
 
     /**
-     * Get the list of players in the minigame.
+     * Get the online players in the minigame.
+     * Players who logged out are still members but are not listed until they log back in.
      *
-     * @return List of players
+     * @return Unmodifiable list of online players
      */
     public List<Player> getPlayers() {
-        return players;
+        return playerView;
+    }
+
+    /**
+     * Check if a player is a member of the minigame, whether or not they are online.
+     *
+     * @param player The player to check
+     * @return true if the player is in the minigame
+     */
+    public boolean hasPlayer(Player player) {
+        return player != null && playerIds.contains(player.getUniqueId());
+    }
+
+    /**
+     * Check if a player is a member of the minigame, whether or not they are online.
+     *
+     * @param playerId The player's UUID
+     * @return true if the player is in the minigame
+     */
+    public boolean hasPlayer(UUID playerId) {
+        return playerIds.contains(playerId);
+    }
+
+    /**
+     * Get the UUIDs of all members of the minigame, including offline ones.
+     *
+     * @return Unmodifiable set of member UUIDs
+     */
+    public Set<UUID> getPlayerIds() {
+        return Collections.unmodifiableSet(playerIds);
     }
 
     /**
@@ -136,8 +236,18 @@ public abstract class Minigame {
      * @param player The player to add
      */
     protected void addPlayer(Player player) {
-        if (!players.contains(player)) {
-            players.add(player);
+        boolean joined = playerIds.add(player.getUniqueId());
+        onlinePlayers.put(player.getUniqueId(), player);
+        refreshPlayerView();
+        GameIndex.bindPlayer(player.getUniqueId(), this);
+
+        DeathManager deathManager = getFeature(DeathManager.class);
+        if (joined && deathManager != null) {
+            deathManager.memberJoined(player.getUniqueId());
+        }
+
+        if (isRunning) {
+            showScoreboard(player);
         }
     }
 
@@ -147,7 +257,62 @@ public abstract class Minigame {
      * @param player The player to remove
      */
     protected void removePlayer(Player player) {
-        players.remove(player);
+        boolean left = playerIds.remove(player.getUniqueId());
+        onlinePlayers.remove(player.getUniqueId());
+        refreshPlayerView();
+        GameIndex.unbindPlayer(player.getUniqueId(), this);
+
+        DeathManager deathManager = getFeature(DeathManager.class);
+        if (left && deathManager != null) {
+            deathManager.memberLeft(player.getUniqueId());
+        }
+
+        hideScoreboard(player);
+    }
+
+    /**
+     * Drop the reference to a member who logged out. They stay a member of the minigame.
+     *
+     * @param player The player who logged out
+     */
+    public void handleLogout(Player player) {
+        if (onlinePlayers.remove(player.getUniqueId()) != null) {
+            refreshPlayerView();
+        }
+    }
+
+    /**
+     * Pick up the new player object of a member who logged back in and call {@link #playerRejoin(Player)}.
+     *
+     * @param player The player who logged back in
+     */
+    public void handleLogin(Player player) {
+        if (!playerIds.contains(player.getUniqueId())) return;
+
+        onlinePlayers.put(player.getUniqueId(), player);
+        refreshPlayerView();
+        // Players get the main scoreboard back when they log in
+        if (isRunning) {
+            showScoreboard(player);
+        }
+        playerRejoin(player);
+    }
+
+    private void refreshPlayerView() {
+        playerView = Collections.unmodifiableList(new ArrayList<>(onlinePlayers.values()));
+    }
+
+    private void showScoreboard(Player player) {
+        if (player.getScoreboard() != getScoreboard()) {
+            player.setScoreboard(getScoreboard());
+        }
+    }
+
+    private void hideScoreboard(Player player) {
+        // Leave players alone if they are already shown another game's scoreboard
+        if (scoreboard != null && player.isOnline() && player.getScoreboard() == scoreboard) {
+            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        }
     }
 
     /**
@@ -168,10 +333,96 @@ public abstract class Minigame {
         this.isRunning = running;
     }
 
+    /**
+     * Start the minigame.
+     * Enables all features before calling {@link #minigameStart()}. If the minigame
+     * did not start running, the features are disabled again.
+     */
+    public void start() {
+        for (Feature feature : features.values()) {
+            feature.enable();
+        }
+        if (this instanceof Listener listener) {
+            MinigameManager.plugin.getEventRouter().register(this, listener);
+        }
+
+        minigameStart();
+
+        if (!isRunning()) {
+            // The game registry drops games that fail to start, so nothing should route to it
+            releaseFeatures();
+            unbindPlayers();
+            return;
+        }
+
+        for (Player player : getPlayers()) {
+            showScoreboard(player);
+        }
+    }
+
     /**
      * End the minigame.
+     * Calls {@link #minigameEnd()} once, then disables all features, releasing their
+     * listeners, tasks and boss bars, and gives players back the main scoreboard.
+     * Its members are unbound from the game index, its click actions are dropped and it is removed
+     * from the game registry afterwards.
      */
     public void end() {
-        minigameEnd();
+        if (ended) return;
+        ended = true;
+
+        GameRegistry registry = MinigameManager.plugin.getGameRegistry();
+        registry.markEnding(this);
+        try {
+            minigameEnd();
+        } finally {
+            releaseFeatures();
+            for (Player player : getPlayers()) {
+                hideScoreboard(player);
+            }
+            unbindPlayers();
+            // Click actions hold the game, so they must not outlive it
+            MinigameManager.plugin.getClickActionService().invalidate(this);
+            registry.remove(this);
+        }
+    }
+
+    /**
+     * Check if the minigame has been ended.
+     *
+     * @return true if {@link #end()} has been called
+     */
+    public boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * Stop routing the members' logins and events to this minigame. The index is static, so a
+     * binding left behind would keep the whole game reachable until each member joined another game.
+     */
+    private void unbindPlayers() {
+        for (UUID playerId : playerIds) {
+            GameIndex.unbindPlayer(playerId, this);
+        }
+    }
+
+    /**
+     * Disable all features in reverse order of addition.
+     */
+    private void releaseFeatures() {
+        if (this instanceof Listener listener) {
+            MinigameManager.plugin.getEventRouter().unregister(listener);
+        }
+
+        List<Feature> reversed = new ArrayList<>(features.values());
+        Collections.reverse(reversed);
+        for (Feature feature : reversed) {
+            try {
+                feature.disable();
+            } catch (RuntimeException e) {
+                MinigameManager.plugin.getLogger().warning("Failed to disable " + feature.getClass().getSimpleName()
+                    + ": " + e.getMessage());
+            }
+        }
     }
 }
\ No newline at end of file
@@ -1,17 +1,31 @@
 package org.icanthink.minigameManager;
 
 import org.bukkit.plugin.java.JavaPlugin;
+import org.icanthink.minigameManager.actions.ClickActionService;
+import org.icanthink.minigameManager.commands.ClaimCommand;
 import org.icanthink.minigameManager.commands.HostMinigameCommand;
 import org.icanthink.minigameManager.commands.JoinMinigameCommand;
+import org.icanthink.minigameManager.commands.LeakCheckCommand;
+import org.icanthink.minigameManager.commands.ProfileCommand;
 import org.icanthink.minigameManager.commands.ListGamesCommand;
 import org.icanthink.minigameManager.commands.StartHostedCommand;
 import org.icanthink.minigameManager.commands.StartMinigameCommand;
 import org.icanthink.minigameManager.commands.StartServerMinigameCommand;
+import org.icanthink.minigameManager.commands.StatsCommand;
 import org.icanthink.minigameManager.commands.StopGameCommand;
 import org.icanthink.minigameManager.commands.GiveCustomItemCommand;
 import org.icanthink.minigameManager.commands.SummonCustomMobCommand;
 import org.icanthink.minigameManager.commands.TriggerEventCommand;
+import org.icanthink.minigameManager.events.EventRouter;
+import org.icanthink.minigameManager.events.PlayerSessionListener;
+import org.icanthink.minigameManager.games.GameRegistry;
 import org.icanthink.minigameManager.tabcompleters.MinigameTabCompleter;
+import org.icanthink.minigameManager.profiling.TickProfiler;
+import org.icanthink.minigameManager.utils.WishPipeline;
+import org.icanthink.minigameManager.worlds.BiomeLocator;
+import org.icanthink.minigameManager.worlds.SafeLocationService;
+import org.icanthink.minigameManager.worlds.WorldDeleter;
+import org.icanthink.minigameManager.worlds.WorldPool;
 
 public final class MinigameManager extends JavaPlugin {
 
@@ -25,7 +39,20 @@ public final class MinigameManager extends JavaPlugin {
     private GiveCustomItemCommand giveCustomItemCommand;
     private SummonCustomMobCommand summonCustomMobCommand;
     private TriggerEventCommand triggerEventCommand;
+    private LeakCheckCommand leakCheckCommand;
+    private StatsCommand statsCommand;
+    private ProfileCommand profileCommand;
+    private ClaimCommand claimCommand;
     private MinigameTabCompleter tabCompleter;
+    private EventRouter eventRouter;
+    private TickProfiler profiler;
+    private WorldDeleter worldDeleter;
+    private WorldPool worldPool;
+    private BiomeLocator biomeLocator;
+    private SafeLocationService safeLocationService;
+    private WishPipeline wishPipeline;
+    private GameRegistry gameRegistry;
+    private ClickActionService clickActionService;
     public static MinigameManager plugin;
 
     @Override
@@ -35,6 +62,37 @@ public final class MinigameManager extends JavaPlugin {
         // Save default config if it doesn't exist
         saveDefaultConfig();
 
+        // Time game handlers and tasks per tick when enabled
+        profiler = new TickProfiler(getConfig().getBoolean("profiler.enabled", false),
+            getConfig().getInt("profiler.window_ticks", 200));
+        getServer().getPluginManager().registerEvents(profiler, this);
+
+        // Route game events through a single set of Bukkit registrations
+        eventRouter = new EventRouter(this, profiler);
+        getServer().getPluginManager().registerEvents(new PlayerSessionListener(), this);
+
+        // Delete old game worlds off the main thread, including any left over from the last run
+        worldDeleter = new WorldDeleter(this);
+        worldDeleter.resumePending();
+
+        // Pre-create game worlds in the background
+        worldPool = new WorldPool(this, getConfig());
+        worldPool.start();
+
+        // Biome and landing spot searches for items run off the main thread
+        biomeLocator = new BiomeLocator(this);
+        safeLocationService = new SafeLocationService(this);
+
+        // Wishes share one bounded request pipeline
+        wishPipeline = new WishPipeline(this, getConfig());
+        getServer().getPluginManager().registerEvents(wishPipeline, this);
+
+        // Hosted and running games, shared by all commands
+        gameRegistry = new GameRegistry();
+
+        // Clickable chat actions are claimed through one command
+        clickActionService = new ClickActionService(getConfig());
+
         // Initialize commands
         startMinigameCommand = new StartMinigameCommand();
         hostMinigameCommand = new HostMinigameCommand();
@@ -46,6 +104,10 @@ public final class MinigameManager extends JavaPlugin {
         giveCustomItemCommand = new GiveCustomItemCommand();
         summonCustomMobCommand = new SummonCustomMobCommand();
         triggerEventCommand = new TriggerEventCommand();
+        leakCheckCommand = new LeakCheckCommand();
+        statsCommand = new StatsCommand();
+        profileCommand = new ProfileCommand();
+        claimCommand = new ClaimCommand();
 
         // Initialize tab completer
         tabCompleter = new MinigameTabCompleter();
@@ -60,6 +122,10 @@ public final class MinigameManager extends JavaPlugin {
         getCommand("givecustomitem").setExecutor(giveCustomItemCommand);
         getCommand("summoncustommob").setExecutor(summonCustomMobCommand);
         getCommand("triggerevent").setExecutor(triggerEventCommand);
+        getCommand("leakcheck").setExecutor(leakCheckCommand);
+        getCommand("mgstats").setExecutor(statsCommand);
+        getCommand("mgprofile").setExecutor(profileCommand);
+        getCommand("claim").setExecutor(claimCommand);
 
         // Register tab completers
         getCommand("hostgame").setTabCompleter(tabCompleter);
@@ -70,6 +136,8 @@ public final class MinigameManager extends JavaPlugin {
         getCommand("givecustomitem").setTabCompleter(tabCompleter);
         getCommand("summoncustommob").setTabCompleter(tabCompleter);
         getCommand("triggerevent").setTabCompleter(tabCompleter);
+        getCommand("leakcheck").setTabCompleter(tabCompleter);
+        getCommand("mgprofile").setTabCompleter(tabCompleter);
 
         // Log plugin startup
         getLogger().info("MinigameManager has been enabled!");
@@ -77,6 +145,23 @@ public final class MinigameManager extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        // Remove pooled worlds that were never used
+        if (worldPool != null) {
+            worldPool.shutdown();
+        }
+        if (worldDeleter != null) {
+            worldDeleter.shutdown();
+        }
+        if (biomeLocator != null) {
+            biomeLocator.shutdown();
+        }
+        if (safeLocationService != null) {
+            safeLocationService.shutdown();
+        }
+        if (wishPipeline != null) {
+            wishPipeline.shutdown();
+        }
+
         // Save config before disabling
         saveConfig();
 
@@ -174,6 +259,33 @@ public final class MinigameManager extends JavaPlugin {
         return triggerEventCommand;
     }
 
+    /**
+     * Get the LeakCheckCommand instance
+     *
+     * @return The LeakCheckCommand instance
+     */
+    public LeakCheckCommand getLeakCheckCommand() {
+        return leakCheckCommand;
+    }
+
+    /**
+     * Get the StatsCommand instance
+     *
+     * @return The StatsCommand instance
+     */
+    public StatsCommand getStatsCommand() {
+        return statsCommand;
+    }
+
+    /**
+     * Get the ProfileCommand instance
+     *
+     * @return The ProfileCommand instance
+     */
+    public ProfileCommand getProfileCommand() {
+        return profileCommand;
+    }
+
     /**
      * Get the MinigameTabCompleter instance
      *
@@ -182,4 +294,85 @@ public final class MinigameManager extends JavaPlugin {
     public MinigameTabCompleter getTabCompleter() {
         return tabCompleter;
     }
+
+    /**
+     * Get the EventRouter instance
+     *
+     * @return The EventRouter instance
+     */
+    public EventRouter getEventRouter() {
+        return eventRouter;
+    }
+
+    /**
+     * Get the WorldDeleter instance
+     *
+     * @return The WorldDeleter instance
+     */
+    public WorldDeleter getWorldDeleter() {
+        return worldDeleter;
+    }
+
+    /**
+     * Get the WorldPool instance
+     *
+     * @return The WorldPool instance
+     */
+    public WorldPool getWorldPool() {
+        return worldPool;
+    }
+
+    /**
+     * Get the BiomeLocator instance
+     *
+     * @return The BiomeLocator instance
+     */
+    public BiomeLocator getBiomeLocator() {
+        return biomeLocator;
+    }
+
+    /**
+     * Get the SafeLocationService instance
+     *
+     * @return The SafeLocationService instance
+     */
+    public SafeLocationService getSafeLocationService() {
+        return safeLocationService;
+    }
+
+    /**
+     * Get the WishPipeline instance
+     *
+     * @return The WishPipeline instance
+     */
+    public WishPipeline getWishPipeline() {
+        return wishPipeline;
+    }
+
+    /**
+     * Get the GameRegistry instance
+     *
+     * @return The GameRegistry instance
+     */
+    public GameRegistry getGameRegistry() {
+        return gameRegistry;
+    }
+
+    /**
+     * Get the ClickActionService instance
+     *
+     * @return The ClickActionService instance
+     */
+    public ClickActionService getClickActionService() {
+        return clickActionService;
+    }
+
+    /**
+     * Get the TickProfiler instance
+     *
+     * @return The TickProfiler instance
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
 }
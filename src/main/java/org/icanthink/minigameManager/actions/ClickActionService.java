@@ -0,0 +1,149 @@
+package org.icanthink.minigameManager.actions;
+
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.icanthink.minigameManager.Minigame;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Issues tokens for clickable chat actions and runs the action when a player claims one with /claim.
+ * Tokens expire after a fixed time, each player can claim a token once, and the oldest tokens are
+ * dropped when too many are outstanding. A game's tokens are dropped as soon as it ends, so they do
+ * not keep it reachable. Tokens are only used on the main thread.
+ */
+public class ClickActionService {
+    private final long ttlMillis;
+    private final int maxTokens;
+    private final Map<String, Token> tokens = new HashMap<>();
+    // Tokens in the order they were issued, which is also the order they expire in
+    private final ArrayDeque<Token> issued = new ArrayDeque<>();
+    // Token IDs per minigame, so a game's tokens can be dropped when it ends
+    private final Map<Minigame, Set<String>> byGame = new HashMap<>();
+
+    /**
+     * Outcome of claiming a token.
+     */
+    public enum Result {
+        CLAIMED,
+        UNKNOWN,
+        ALREADY_CLAIMED,
+        NOT_IN_GAME
+    }
+
+    private static final class Token {
+        private final String id;
+        private final Minigame minigame;
+        private final Consumer<Player> action;
+        private final long expiresAt;
+        private final Set<UUID> claimedBy = new HashSet<>();
+
+        private Token(String id, Minigame minigame, Consumer<Player> action, long expiresAt) {
+            this.id = id;
+            this.minigame = minigame;
+            this.action = action;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public ClickActionService(FileConfiguration config) {
+        this.ttlMillis = Math.max(1, config.getLong("click_actions.ttl_seconds", 300)) * 1000;
+        this.maxTokens = Math.max(1, config.getInt("click_actions.max_tokens", 256));
+    }
+
+    /**
+     * Issue a token that members of a minigame can claim once each while the game runs.
+     *
+     * @param minigame The minigame whose players may claim the token
+     * @param action The action to run for each player who claims it
+     * @return The command that claims the token, for use in a click event
+     */
+    public String register(Minigame minigame, Consumer<Player> action) {
+        long now = System.currentTimeMillis();
+        expire(now);
+        while (tokens.size() >= maxTokens) {
+            forget(issued.removeFirst());
+        }
+
+        String id;
+        do {
+            id = UUID.randomUUID().toString().replace("-", "");
+        } while (tokens.containsKey(id));
+
+        Token token = new Token(id, minigame, action, now + ttlMillis);
+        tokens.put(id, token);
+        issued.addLast(token);
+        byGame.computeIfAbsent(minigame, game -> new HashSet<>()).add(id);
+        return "/claim " + id;
+    }
+
+    /**
+     * Claim a token for a player, running its action if the player may claim it.
+     *
+     * @param player The player claiming the token
+     * @param id The token
+     * @return The outcome
+     */
+    public Result claim(Player player, String id) {
+        expire(System.currentTimeMillis());
+
+        Token token = tokens.get(id);
+        if (token == null) return Result.UNKNOWN;
+
+        if (!token.minigame.isRunning()) {
+            // The game is over, so nobody can use its tokens any more
+            invalidate(token.minigame);
+            return Result.UNKNOWN;
+        }
+        if (!token.minigame.hasPlayer(player)) return Result.NOT_IN_GAME;
+        if (!token.claimedBy.add(player.getUniqueId())) return Result.ALREADY_CLAIMED;
+
+        token.action.accept(player);
+        return Result.CLAIMED;
+    }
+
+    /**
+     * Drop every token issued for a minigame. Called by the minigame when it ends.
+     *
+     * @param minigame The minigame
+     */
+    public void invalidate(Minigame minigame) {
+        Set<String> ids = byGame.remove(minigame);
+        if (ids == null) return;
+
+        for (String id : ids) {
+            tokens.remove(id);
+        }
+        issued.removeIf(token -> token.minigame == minigame);
+    }
+
+    /**
+     * Get the number of tokens that can still be claimed.
+     *
+     * @return The outstanding token count
+     */
+    public int getTokenCount() {
+        expire(System.currentTimeMillis());
+        return tokens.size();
+    }
+
+    private void expire(long now) {
+        while (!issued.isEmpty() && issued.peekFirst().expiresAt <= now) {
+            forget(issued.removeFirst());
+        }
+    }
+
+    private void forget(Token token) {
+        tokens.remove(token.id);
+        Set<String> ids = byGame.get(token.minigame);
+        if (ids != null && ids.remove(token.id) && ids.isEmpty()) {
+            byGame.remove(token.minigame);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.icanthink.minigameManager.commands;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.icanthink.minigameManager.MinigameManager;
+
+/**
+ * Command run by clickable chat messages to claim an action, such as a free dog.
+ * Usage: /claim <token>
+ */
+public class ClaimCommand implements CommandExecutor {
+
+    public ClaimCommand() {
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (args.length < 1) {
+            sender.sendMessage(ChatColor.RED + "Usage: /claim <token>");
+            return false;
+        }
+
+        // Only players can claim actions
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(ChatColor.RED + "Only players can claim this.");
+            return true;
+        }
+
+        Player player = (Player) sender;
+        switch (MinigameManager.plugin.getClickActionService().claim(player, args[0])) {
+            case UNKNOWN:
+                player.sendMessage(ChatColor.RED + "This link has expired.");
+                break;
+            case NOT_IN_GAME:
+                player.sendMessage(ChatColor.RED + "This link is for another game.");
+                break;
+            case ALREADY_CLAIMED:
+                player.sendMessage(ChatColor.RED + "You have already used this link!");
+                break;
+            default:
+                break;
+        }
+        return true;
+    }
+}
@@ -7,7 +7,7 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.events.GameIndex;
 import org.icanthink.minigameManager.features.items.CustomItem;
 import org.icanthink.minigameManager.features.items.TeleportRod;
 import org.icanthink.minigameManager.features.items.PlayerTracker;
@@ -19,7 +19,6 @@ import org.icanthink.minigameManager.features.items.CursedPumpkinItem;
 import org.icanthink.minigameManager.features.items.KnockbackStick;
 import org.icanthink.minigameManager.features.items.Shoes;
 import org.icanthink.minigameManager.features.items.FlyingShield;
-import org.icanthink.minigameManager.utils.ChatGPTClient;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -32,12 +31,8 @@ import java.util.Map;
  */
 public class GiveCustomItemCommand implements CommandExecutor {
     public static final Map<String, Class<? extends CustomItem>> availableItems = new HashMap<>();
-    private final ChatGPTClient chatGPTClient;
 
     public GiveCustomItemCommand() {
-        // Initialize ChatGPT client
-        this.chatGPTClient = new ChatGPTClient(MinigameManager.plugin.getConfig());
-
         // Register available custom items (if not already registered)
         if (availableItems.isEmpty()) {
             availableItems.put("teleportrod", TeleportRod.class);
@@ -90,15 +85,9 @@ public class GiveCustomItemCommand implements CommandExecutor {
         }
 
         // Find an active minigame that the target player is in
-        Minigame targetMinigame = null;
-        for (Minigame minigame : MinigameManager.plugin.getStartMinigameCommand().getActiveMinigames().values()) {
-            if (minigame.getPlayers().contains(target)) {
-                targetMinigame = minigame;
-                break;
-            }
-        }
+        Minigame targetMinigame = GameIndex.getMinigame(target);
 
-        if (targetMinigame == null) {
+        if (targetMinigame == null || !targetMinigame.isRunning()) {
             sender.sendMessage(ChatColor.RED + target.getName() + " is not in any active minigame.");
             return false;
         }
@@ -12,22 +12,13 @@ import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
 import org.icanthink.minigameManager.games.grouphardcore.GroupHardcore;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Command to host a minigame without starting it immediately.
  * Usage: /hostminigame <type> [players...]
  */
 public class HostMinigameCommand implements CommandExecutor {
 
-    private final Map<String, Minigame> pendingMinigames;
-
     public HostMinigameCommand() {
-        this.pendingMinigames = new HashMap<>();
     }
 
     @Override
@@ -77,9 +68,8 @@ public class HostMinigameCommand implements CommandExecutor {
             }
         }
 
-        // Generate a short code for easier joining
-        String minigameId = generateJoinCode();
-        pendingMinigames.put(minigameId, minigame);
+        // Register the minigame under a short code for easier joining
+        String minigameId = MinigameManager.plugin.getGameRegistry().host(minigame).joinCode();
 
         // Send confirmation messages
         sender.sendMessage(ChatColor.GREEN + "Minigame hosted successfully!");
@@ -90,62 +80,6 @@ public class HostMinigameCommand implements CommandExecutor {
         return true;
     }
 
-    /**
-     * Generates a random join code for the minigame.
-     *
-     * @return A random join code
-     */
-    private String generateJoinCode() {
-        return UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-    }
-
-    /**
-     * Gets a pending minigame by its join code.
-     *
-     * @param code The join code
-     * @return The minigame, or null if not found
-     */
-    public Minigame getPendingMinigame(String code) {
-        return pendingMinigames.get(code.toUpperCase());
-    }
-
-    /**
-     * Gets all pending minigame codes.
-     *
-     * @return List of all pending minigame codes
-     */
-    public List<String> getAllPendingCodes() {
-        return new ArrayList<>(pendingMinigames.keySet());
-    }
-
-    /**
-     * Removes a pending minigame.
-     *
-     * @param code The join code of the minigame to remove
-     */
-    public void removePendingMinigame(String code) {
-        pendingMinigames.remove(code.toUpperCase());
-    }
-
-    /**
-     * Checks if a join code is valid.
-     *
-     * @param code The join code to check
-     * @return true if the code exists, false otherwise
-     */
-    public boolean isValidJoinCode(String code) {
-        return pendingMinigames.containsKey(code.toUpperCase());
-    }
-
-    /**
-     * Gets all pending minigames.
-     *
-     * @return Map of join codes to minigames
-     */
-    public Map<String, Minigame> getPendingMinigames() {
-        return pendingMinigames;
-    }
-
     /**
      * Gets a comma-separated list of player names in a minigame.
      *
@@ -7,6 +7,7 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.games.GameRegistry;
 
 /**
  * Command to join a hosted minigame using a join code.
@@ -34,13 +35,14 @@ public class JoinMinigameCommand implements CommandExecutor {
         String joinCode = args[0].toUpperCase();
 
         // Check if the join code is valid
-        if (!MinigameManager.plugin.getHostMinigameCommand().isValidJoinCode(joinCode)) {
+        GameRegistry.Entry pending = MinigameManager.plugin.getGameRegistry().getByJoinCode(joinCode);
+        if (pending == null) {
             sender.sendMessage(ChatColor.RED + "Invalid join code. Please check the code and try again.");
             return true;
         }
 
         // Get the minigame and add the player
-        Minigame minigame = MinigameManager.plugin.getHostMinigameCommand().getPendingMinigame(joinCode);
+        Minigame minigame = pending.minigame();
         minigame.playerJoin(player);
 
         // Inform the player and other participants
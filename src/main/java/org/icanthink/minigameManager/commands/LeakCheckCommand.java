@@ -0,0 +1,91 @@
+package org.icanthink.minigameManager.commands;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.HandlerList;
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.features.AbilityTicker;
+import org.icanthink.minigameManager.features.Feature;
+import org.icanthink.minigameManager.features.FeatureScope;
+import org.icanthink.minigameManager.games.GameRegistry;
+
+import java.util.List;
+
+/**
+ * Command to report live event handlers, tasks, boss bars and abilities per minigame.
+ * Usage: /leakcheck [game_id]
+ */
+public class LeakCheckCommand implements CommandExecutor {
+
+    public LeakCheckCommand() {
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        GameRegistry registry = MinigameManager.plugin.getGameRegistry();
+
+        // Ended games are only listed while something still references them
+        List<GameRegistry.Entry> games = registry.getGames();
+        games.addAll(registry.getEndedGames());
+
+        // Plugin-wide totals, as seen by Bukkit
+        int bukkitListeners = HandlerList.getRegisteredListeners(MinigameManager.plugin).size();
+        long bukkitTasks = Bukkit.getScheduler().getPendingTasks().stream()
+                .filter(task -> task.getOwner() == MinigameManager.plugin)
+                .count();
+
+        sender.sendMessage(ChatColor.GREEN + "Plugin totals:");
+        sender.sendMessage(ChatColor.YELLOW + "- Bukkit registrations: " + bukkitListeners);
+        sender.sendMessage(ChatColor.YELLOW + "- Pending tasks: " + bukkitTasks);
+
+        for (GameRegistry.Entry entry : games) {
+            if (args.length > 0 && !entry.id().equalsIgnoreCase(args[0])) {
+                continue;
+            }
+            reportGame(sender, entry.id(), entry.minigame());
+        }
+
+        return true;
+    }
+
+    /**
+     * Send the resource counts of one minigame to the sender.
+     *
+     * @param sender The command sender
+     * @param gameId The minigame ID
+     * @param game The minigame
+     */
+    private void reportGame(CommandSender sender, String gameId, Minigame game) {
+        int listeners = 0;
+        int tasks = 0;
+        int bossBars = 0;
+        for (Feature feature : game.getFeatures()) {
+            FeatureScope scope = feature.getScope();
+            listeners += scope.getListenerCount();
+            tasks += scope.getLiveTaskCount();
+            bossBars += scope.getBossBarCount();
+        }
+
+        String state = game.isRunning() ? "running" : game.isEnded() ? "ended" : "not running";
+        int handlers = MinigameManager.plugin.getEventRouter().getHandlerCount(game);
+
+        // Anything left over after a game ended is a leak
+        ChatColor color = game.isEnded() && (handlers > 0 || tasks > 0 || bossBars > 0)
+                ? ChatColor.RED : ChatColor.YELLOW;
+
+        sender.sendMessage(ChatColor.GOLD + "ID: " + gameId + " (" + game.getClass().getSimpleName() + ", " + state + ")");
+        sender.sendMessage(color + "- Listeners: " + listeners + " (" + handlers + " handlers)");
+        sender.sendMessage(color + "- Tasks: " + tasks);
+        sender.sendMessage(color + "- Boss bars: " + bossBars);
+
+        AbilityTicker ticker = game.getAbilityTicker();
+        if (ticker != null) {
+            sender.sendMessage(ChatColor.YELLOW + "- Abilities: " + ticker.getActiveCount()
+                + " (last tick " + ticker.getLastTickMicros() + "µs)");
+        }
+    }
+}
@@ -7,8 +7,9 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.games.GameRegistry;
 
-import java.util.Map;
+import java.util.List;
 
 /**
  * Command to list all active minigames.
@@ -21,8 +22,9 @@ public class ListGamesCommand implements CommandExecutor {
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        Map<String, Minigame> activeGames = MinigameManager.plugin.getStartMinigameCommand().getActiveMinigames();
-        Map<String, Minigame> pendingGames = MinigameManager.plugin.getHostMinigameCommand().getPendingMinigames();
+        GameRegistry registry = MinigameManager.plugin.getGameRegistry();
+        List<GameRegistry.Entry> activeGames = registry.getGames(GameRegistry.State.RUNNING);
+        List<GameRegistry.Entry> pendingGames = registry.getGames(GameRegistry.State.PENDING);
 
         if (activeGames.isEmpty() && pendingGames.isEmpty()) {
             sender.sendMessage(ChatColor.YELLOW + "There are no active or pending minigames.");
@@ -32,37 +34,37 @@ public class ListGamesCommand implements CommandExecutor {
         // List active games
         if (!activeGames.isEmpty()) {
             sender.sendMessage(ChatColor.GREEN + "Active Minigames:");
-            for (Map.Entry<String, Minigame> entry : activeGames.entrySet()) {
-                Minigame game = entry.getValue();
-                String gameId = entry.getKey();
-                String playerList = String.join(", ", game.getPlayers().stream()
-                        .map(Player::getName)
-                        .toArray(String[]::new));
-
-                sender.sendMessage(ChatColor.GOLD + "ID: " + gameId);
-                sender.sendMessage(ChatColor.YELLOW + "- Type: " + game.getClass().getSimpleName());
-                sender.sendMessage(ChatColor.YELLOW + "- Players: " + playerList);
-                sender.sendMessage(ChatColor.YELLOW + "- World: " + game.getWorld().getName());
+            for (GameRegistry.Entry entry : activeGames) {
+                sender.sendMessage(ChatColor.GOLD + "ID: " + entry.id());
+                sendDetails(sender, entry.minigame());
             }
         }
 
         // List pending games
         if (!pendingGames.isEmpty()) {
             sender.sendMessage(ChatColor.GREEN + "\nPending Minigames:");
-            for (Map.Entry<String, Minigame> entry : pendingGames.entrySet()) {
-                Minigame game = entry.getValue();
-                String joinCode = entry.getKey();
-                String playerList = String.join(", ", game.getPlayers().stream()
-                        .map(Player::getName)
-                        .toArray(String[]::new));
-
-                sender.sendMessage(ChatColor.GOLD + "Join Code: " + joinCode);
-                sender.sendMessage(ChatColor.YELLOW + "- Type: " + game.getClass().getSimpleName());
-                sender.sendMessage(ChatColor.YELLOW + "- Players: " + playerList);
-                sender.sendMessage(ChatColor.YELLOW + "- World: " + game.getWorld().getName());
+            for (GameRegistry.Entry entry : pendingGames) {
+                sender.sendMessage(ChatColor.GOLD + "Join Code: " + entry.joinCode());
+                sendDetails(sender, entry.minigame());
             }
         }
 
         return true;
     }
-}
\ No newline at end of file
+
+    /**
+     * Send the type, players and world of a minigame to the sender.
+     *
+     * @param sender The command sender
+     * @param game The minigame
+     */
+    private void sendDetails(CommandSender sender, Minigame game) {
+        String playerList = String.join(", ", game.getPlayers().stream()
+                .map(Player::getName)
+                .toArray(String[]::new));
+
+        sender.sendMessage(ChatColor.YELLOW + "- Type: " + game.getClass().getSimpleName());
+        sender.sendMessage(ChatColor.YELLOW + "- Players: " + playerList);
+        sender.sendMessage(ChatColor.YELLOW + "- World: " + game.getWorld().getName());
+    }
+}
@@ -0,0 +1,75 @@
+package org.icanthink.minigameManager.commands;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.games.GameRegistry;
+import org.icanthink.minigameManager.profiling.TickProfiler;
+
+/**
+ * Command to show how much main-thread time a minigame costs per tick.
+ * Usage: /mgprofile <game_id|on|off>
+ */
+public class ProfileCommand implements CommandExecutor {
+    private static final int MAX_SOURCES = 10; // Most expensive classes to list
+
+    public ProfileCommand() {
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        TickProfiler profiler = MinigameManager.plugin.getProfiler();
+
+        if (args.length != 1) {
+            sender.sendMessage(ChatColor.RED + "Usage: /mgprofile <game_id|on|off>");
+            sender.sendMessage(ChatColor.YELLOW + "Profiling is " + (profiler.isEnabled() ? "on" : "off"));
+            return false;
+        }
+
+        if (args[0].equalsIgnoreCase("on") || args[0].equalsIgnoreCase("off")) {
+            profiler.setEnabled(args[0].equalsIgnoreCase("on"));
+            sender.sendMessage(ChatColor.GREEN + "Profiling turned " + args[0].toLowerCase());
+            return true;
+        }
+
+        if (!profiler.isEnabled()) {
+            sender.sendMessage(ChatColor.RED + "Profiling is off. Turn it on with /mgprofile on");
+            return true;
+        }
+
+        GameRegistry.Entry entry = MinigameManager.plugin.getGameRegistry().get(args[0]);
+        if (entry == null || entry.state() != GameRegistry.State.RUNNING) {
+            sender.sendMessage(ChatColor.RED + "No active minigame found with ID: " + args[0]);
+            return true;
+        }
+        Minigame game = entry.minigame();
+
+        TickProfiler.Report report = profiler.report(game);
+        if (report == null) {
+            sender.sendMessage(ChatColor.YELLOW + "Nothing recorded for " + args[0].toUpperCase() + " yet.");
+            return true;
+        }
+
+        TickProfiler.SourceStats total = report.total();
+        sender.sendMessage(ChatColor.GOLD + "ID: " + args[0].toUpperCase() + " (" + total.name() + ", last "
+            + total.ticks() + " ticks)");
+        sender.sendMessage(ChatColor.GREEN + format("Total", total));
+
+        int shown = 0;
+        for (TickProfiler.SourceStats source : report.sources()) {
+            if (shown++ == MAX_SOURCES) break;
+            String name = source.name().substring(source.name().lastIndexOf('.') + 1);
+            sender.sendMessage(ChatColor.YELLOW + format("- " + name, source));
+        }
+
+        return true;
+    }
+
+    private static String format(String name, TickProfiler.SourceStats stats) {
+        return String.format("%s: %.3fms mean, %.3fms p99, %.3fms max", name,
+            stats.meanMillis(), stats.p99Millis(), stats.maxMillis());
+    }
+}
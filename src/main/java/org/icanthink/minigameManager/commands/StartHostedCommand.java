@@ -7,6 +7,7 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.games.GameRegistry;
 
 /**
  * Command to start a previously hosted minigame.
@@ -31,23 +32,21 @@ public class StartHostedCommand implements CommandExecutor {
         }
 
         String joinCode = args[0].toUpperCase();
+        GameRegistry registry = MinigameManager.plugin.getGameRegistry();
 
         // Check if the join code is valid
-        if (!MinigameManager.plugin.getHostMinigameCommand().isValidJoinCode(joinCode)) {
+        GameRegistry.Entry pending = registry.getByJoinCode(joinCode);
+        if (pending == null) {
             sender.sendMessage(ChatColor.RED + "Invalid join code. Please check the code and try again.");
             return true;
         }
 
-        // Get the minigame
-        Minigame minigame = MinigameManager.plugin.getHostMinigameCommand().getPendingMinigame(joinCode);
-
-        // Start the minigame
-        minigame.minigameStart();
-
-        // Move to active minigames and remove from pending
-        String activeId = joinCode;
-        MinigameManager.plugin.getStartMinigameCommand().addActiveMinigame(activeId, minigame);
-        MinigameManager.plugin.getHostMinigameCommand().removePendingMinigame(joinCode);
+        // Start the minigame; it keeps its join code as its game ID
+        Minigame minigame = pending.minigame();
+        if (registry.start(minigame) == null) {
+            sender.sendMessage(ChatColor.RED + "Failed to start the minigame.");
+            return true;
+        }
 
         // Inform all players that the game has started
         for (Player player : minigame.getPlayers()) {
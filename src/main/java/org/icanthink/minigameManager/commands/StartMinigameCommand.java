@@ -10,22 +10,16 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.games.GameRegistry;
 import org.icanthink.minigameManager.games.grouphardcore.GroupHardcore;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Command to start minigames.
  * Usage: /startminigame <type> [players...]
  */
 public class StartMinigameCommand implements CommandExecutor {
 
-    private final Map<String, Minigame> activeMinigames;
-
     public StartMinigameCommand() {
-        this.activeMinigames = new HashMap<>();
     }
 
     @Override
@@ -75,50 +69,20 @@ public class StartMinigameCommand implements CommandExecutor {
             }
         }
 
-        // Store the minigame with a unique identifier
-        String minigameId = UUID.randomUUID().toString().substring(0, 8);
-        activeMinigames.put(minigameId, minigame);
-
-        // Start the minigame
-        minigame.minigameStart();
+        // Register and start the minigame
+        GameRegistry.Entry entry = MinigameManager.plugin.getGameRegistry().start(minigame);
+        if (entry == null) {
+            sender.sendMessage(ChatColor.RED + "Failed to start the " + minigameType + " minigame.");
+            return true;
+        }
 
         // Send confirmation message
-        sender.sendMessage(ChatColor.GREEN + minigameType + " minigame started with ID: " + minigameId);
+        sender.sendMessage(ChatColor.GREEN + minigameType + " minigame started with ID: " + entry.id());
         sender.sendMessage(ChatColor.GREEN + "Players: " + getPlayerNames(minigame));
 
         return true;
     }
 
-    /**
-     * Adds a minigame to the active minigames map.
-     * Used when starting a hosted minigame.
-     *
-     * @param id The ID for the minigame
-     * @param minigame The minigame to add
-     */
-    public void addActiveMinigame(String id, Minigame minigame) {
-        activeMinigames.put(id, minigame);
-    }
-
-    /**
-     * Gets a minigame by its ID.
-     *
-     * @param id The minigame ID
-     * @return The minigame, or null if not found
-     */
-    public Minigame getMinigame(String id) {
-        return activeMinigames.get(id);
-    }
-
-    /**
-     * Removes a minigame from the active minigames list.
-     *
-     * @param id The ID of the minigame to remove
-     */
-    public void removeMinigame(String id) {
-        activeMinigames.remove(id);
-    }
-
     /**
      * Gets a comma-separated list of player names in a minigame.
      *
@@ -139,13 +103,4 @@ public class StartMinigameCommand implements CommandExecutor {
 
         return names.toString();
     }
-
-    /**
-     * Gets all active minigames.
-     *
-     * @return Map of minigame IDs to minigames
-     */
-    public Map<String, Minigame> getActiveMinigames() {
-        return activeMinigames;
-    }
-}
\ No newline at end of file
+}
@@ -9,10 +9,9 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.games.GameRegistry;
 import org.icanthink.minigameManager.games.grouphardcore.GroupHardcore;
 
-import java.util.UUID;
-
 /**
  * Command to start a minigame with all online players in the server.
  * Usage: /startservergame <type>
@@ -68,16 +67,16 @@ public class StartServerMinigameCommand implements CommandExecutor {
             return true;
         }
 
-        // Generate a unique ID and store the minigame
-        String minigameId = UUID.randomUUID().toString().substring(0, 8);
-        MinigameManager.plugin.getStartMinigameCommand().addActiveMinigame(minigameId, minigame);
-
-        // Start the minigame
-        minigame.minigameStart();
+        // Register and start the minigame
+        GameRegistry.Entry entry = MinigameManager.plugin.getGameRegistry().start(minigame);
+        if (entry == null) {
+            sender.sendMessage(ChatColor.RED + "Failed to start the " + minigameType + " minigame.");
+            return true;
+        }
 
         // Broadcast game start
         Bukkit.broadcastMessage(ChatColor.GREEN + "A server-wide " + minigameType + " minigame has started!");
-        Bukkit.broadcastMessage(ChatColor.GREEN + "Game ID: " + minigameId);
+        Bukkit.broadcastMessage(ChatColor.GREEN + "Game ID: " + entry.id());
 
         return true;
     }
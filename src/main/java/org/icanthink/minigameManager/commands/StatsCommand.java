@@ -0,0 +1,53 @@
+package org.icanthink.minigameManager.commands;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.utils.CachingCommandGenerator;
+import org.icanthink.minigameManager.utils.WishPipeline;
+import org.icanthink.minigameManager.worlds.WorldPool;
+
+/**
+ * Command to show plugin-wide performance statistics.
+ * Usage: /mgstats
+ */
+public class StatsCommand implements CommandExecutor {
+
+    public StatsCommand() {
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        WorldPool pool = MinigameManager.plugin.getWorldPool();
+
+        String source = pool.getTemplateName() != null ? "template " + pool.getTemplateName() : "generated";
+        sender.sendMessage(ChatColor.GREEN + "World pool (" + source + "):");
+        String warming = pool.isWarming() ? " (warming: " + pool.getWarmingProgress() + ")" : "";
+        sender.sendMessage(ChatColor.YELLOW + "- Ready: " + pool.getReadyCount() + "/" + pool.getSize() + warming);
+        sender.sendMessage(ChatColor.YELLOW + "- Hits: " + pool.getHits() + ", misses: " + pool.getMisses());
+        sender.sendMessage(ChatColor.YELLOW + String.format("- World wait: %.1fms avg, %.1fms max",
+            pool.getAverageAcquireMillis(), pool.getMaxAcquireMillis()));
+        sender.sendMessage(ChatColor.YELLOW + String.format("- Warm-up: %.0fms avg", pool.getAverageWarmMillis()));
+        sender.sendMessage(ChatColor.YELLOW + "- Worlds waiting for deletion: "
+            + MinigameManager.plugin.getWorldDeleter().getPendingCount());
+
+        WishPipeline wishes = MinigameManager.plugin.getWishPipeline();
+        sender.sendMessage(ChatColor.GREEN + "Wishes:");
+        sender.sendMessage(ChatColor.YELLOW + "- Queued: " + wishes.getQueuedCount()
+            + ", in flight: " + wishes.getInFlightCount());
+        sender.sendMessage(ChatColor.YELLOW + "- Granted: " + wishes.getCompletedCount()
+            + ", failed: " + wishes.getFailedCount() + ", rejected: " + wishes.getRejectedCount());
+        sender.sendMessage(ChatColor.YELLOW + String.format("- Queue wait: %.0fms avg; first command: %.0fms avg",
+            wishes.getAverageWaitMillis(), wishes.getAverageFirstCommandMillis()));
+        sender.sendMessage(ChatColor.YELLOW + String.format("- Latency: %.0fms avg, %dms max",
+            wishes.getAverageLatencyMillis(), wishes.getMaxLatencyMillis()));
+        if (wishes.getGenerator() instanceof CachingCommandGenerator cache) {
+            sender.sendMessage(ChatColor.YELLOW + "- Response cache: " + cache.getHits() + " hits, "
+                + cache.getMisses() + " misses");
+        }
+
+        return true;
+    }
+}
@@ -4,8 +4,8 @@ import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
-import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.games.GameRegistry;
 
 /**
  * Command to stop an active minigame.
@@ -24,16 +24,15 @@ public class StopGameCommand implements CommandExecutor {
         }
 
         String gameId = args[0].toUpperCase();
-        Minigame minigame = MinigameManager.plugin.getStartMinigameCommand().getMinigame(gameId);
+        GameRegistry.Entry entry = MinigameManager.plugin.getGameRegistry().get(gameId);
 
-        if (minigame == null) {
+        if (entry == null || entry.state() != GameRegistry.State.RUNNING) {
             sender.sendMessage(ChatColor.RED + "No active minigame found with ID: " + gameId);
             return true;
         }
 
-        // End the minigame
-        minigame.minigameEnd();
-        MinigameManager.plugin.getStartMinigameCommand().removeMinigame(gameId);
+        // End the minigame, which also removes it from the registry
+        entry.minigame().end();
 
         // Inform players
         sender.sendMessage(ChatColor.GREEN + "Successfully stopped minigame with ID: " + gameId);
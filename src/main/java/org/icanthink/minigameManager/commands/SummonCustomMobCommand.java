@@ -9,7 +9,7 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.events.GameIndex;
 import org.icanthink.minigameManager.features.mobs.CustomMob;
 import org.icanthink.minigameManager.features.mobs.CustomMobManager;
 import org.icanthink.minigameManager.features.mobs.InvincibleZombie;
@@ -97,15 +97,10 @@ public class SummonCustomMobCommand implements CommandExecutor {
 
         // Find the minigame the player is in
         if (targetPlayer != null) {
-            for (Minigame minigame : MinigameManager.plugin.getStartMinigameCommand().getActiveMinigames().values()) {
-                if (minigame.getPlayers().contains(targetPlayer)) {
-                    targetMinigame = minigame;
-                    break;
-                }
-            }
+            targetMinigame = GameIndex.getMinigame(targetPlayer);
         }
 
-        if (targetMinigame == null) {
+        if (targetMinigame == null || !targetMinigame.isRunning()) {
             sender.sendMessage(ChatColor.RED + "No active minigame found! The mob will be spawned without minigame features.");
             return false;
         }
@@ -7,10 +7,10 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.events.GameIndex;
+import org.icanthink.minigameManager.games.GameRegistry;
 import org.icanthink.minigameManager.games.grouphardcore.GroupHardcore;
 
-import java.util.Map;
-
 /**
  * Command to manually trigger a game event in an active minigame.
  * Usage: /triggerevent [game_id]
@@ -34,17 +34,15 @@ public class TriggerEventCommand implements CommandExecutor {
         if (args.length < 1) {
             // No game ID provided, try to find the player's current game
             Player player = (Player) sender;
-            Map<String, Minigame> activeGames = MinigameManager.plugin.getStartMinigameCommand().getActiveMinigames();
 
             GroupHardcore currentGame = null;
             String currentGameId = null;
 
-            for (Map.Entry<String, Minigame> entry : activeGames.entrySet()) {
-                Minigame minigame = entry.getValue();
-                if (minigame instanceof GroupHardcore && minigame.getPlayers().contains(player)) {
-                    currentGame = (GroupHardcore) minigame;
-                    currentGameId = entry.getKey();
-                    break;
+            if (GameIndex.getMinigame(player) instanceof GroupHardcore playerGame) {
+                GameRegistry.Entry entry = MinigameManager.plugin.getGameRegistry().getEntry(playerGame);
+                if (entry != null && entry.state() == GameRegistry.State.RUNNING) {
+                    currentGame = playerGame;
+                    currentGameId = entry.id();
                 }
             }
 
@@ -58,12 +56,13 @@ public class TriggerEventCommand implements CommandExecutor {
         } else {
             // Game ID provided, try to find that specific game
             gameId = args[0].toUpperCase();
-            Minigame minigame = MinigameManager.plugin.getStartMinigameCommand().getMinigame(gameId);
+            GameRegistry.Entry entry = MinigameManager.plugin.getGameRegistry().get(gameId);
 
-            if (minigame == null) {
+            if (entry == null || entry.state() != GameRegistry.State.RUNNING) {
                 sender.sendMessage(ChatColor.RED + "No active minigame found with ID: " + gameId);
                 return true;
             }
+            Minigame minigame = entry.minigame();
 
             // Check if it's a GroupHardcore game
             if (!(minigame instanceof GroupHardcore)) {
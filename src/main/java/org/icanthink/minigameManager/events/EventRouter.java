@@ -0,0 +1,258 @@
+package org.icanthink.minigameManager.events;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.entity.EntityEvent;
+import org.bukkit.event.inventory.InventoryEvent;
+import org.bukkit.event.inventory.InventoryInteractEvent;
+import org.bukkit.event.player.PlayerEvent;
+import org.bukkit.event.world.WorldEvent;
+import org.bukkit.plugin.Plugin;
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.profiling.TickProfiler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Plugin-level event router for per-game listeners.
+ * Each (event class, priority) pair is registered with Bukkit exactly once. When an event fires,
+ * the owning minigame is resolved through the {@link GameIndex} and only that game's handlers run,
+ * so the cost of an event does not grow with the number of games or items ever created.
+ */
+public class EventRouter {
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Listener.class, Event.class);
+    private static final Map<Class<?>, List<HandlerMethod>> handlerCache = new ConcurrentHashMap<>();
+
+    private final Plugin plugin;
+    private final TickProfiler profiler;
+    private final Listener bukkitListener = new Listener() {};
+    private final Map<RouteKey, Route> routes = new ConcurrentHashMap<>();
+    private final Map<Listener, List<Registration>> registrations = new ConcurrentHashMap<>();
+
+    public EventRouter(Plugin plugin, TickProfiler profiler) {
+        this.plugin = plugin;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Register all @EventHandler methods of a listener for a minigame.
+     * Registering the same listener twice has no effect.
+     *
+     * @param minigame The minigame the listener belongs to
+     * @param listener The listener to register
+     */
+    public void register(Minigame minigame, Listener listener) {
+        if (registrations.containsKey(listener)) return;
+
+        List<Registration> added = new ArrayList<>();
+        for (HandlerMethod method : getHandlerMethods(listener.getClass())) {
+            Route route = getRoute(method.eventClass, method.priority);
+            RoutedHandler handler = new RoutedHandler(listener, method);
+            route.add(minigame, handler);
+            added.add(new Registration(route, minigame, handler));
+        }
+        registrations.put(listener, added);
+    }
+
+    /**
+     * Unregister all handlers of a listener.
+     *
+     * @param listener The listener to unregister
+     */
+    public void unregister(Listener listener) {
+        List<Registration> removed = registrations.remove(listener);
+        if (removed == null) return;
+
+        for (Registration registration : removed) {
+            registration.route.remove(registration.minigame, registration.handler);
+        }
+    }
+
+    /**
+     * Get the number of handlers currently routed to a minigame.
+     *
+     * @param minigame The minigame
+     * @return The number of live handlers
+     */
+    public int getHandlerCount(Minigame minigame) {
+        int count = 0;
+        for (Route route : routes.values()) {
+            RoutedHandler[] handlers = route.handlers.get(minigame);
+            if (handlers != null) {
+                count += handlers.length;
+            }
+        }
+        return count;
+    }
+
+    private Route getRoute(Class<? extends Event> eventClass, EventPriority priority) {
+        return routes.computeIfAbsent(new RouteKey(eventClass, priority), key -> {
+            Route route = new Route(eventClass);
+            plugin.getServer().getPluginManager().registerEvent(
+                eventClass, bukkitListener, priority, (listener, event) -> route.dispatch(event), plugin, false);
+            return route;
+        });
+    }
+
+    private void invoke(Minigame minigame, RoutedHandler[] handlers, Event event) {
+        for (RoutedHandler handler : handlers) {
+            if (handler.method.ignoreCancelled && event instanceof Cancellable cancellable && cancellable.isCancelled()) {
+                continue;
+            }
+            long start = profiler.start();
+            try {
+                handler.method.handle.invokeExact(handler.listener, event);
+            } catch (Throwable t) {
+                plugin.getLogger().log(Level.SEVERE, "Could not pass event " + event.getEventName()
+                    + " to " + handler.listener.getClass().getName(), t);
+            } finally {
+                profiler.stop(minigame, handler.listener.getClass(), start);
+            }
+        }
+    }
+
+    /**
+     * Get the main subject of an event: the player, entity, block or world it is about.
+     */
+    private static Object getSubject(Event event) {
+        if (event instanceof PlayerEvent playerEvent) return playerEvent.getPlayer();
+        if (event instanceof EntityEvent entityEvent) return entityEvent.getEntity();
+        if (event instanceof BlockBreakEvent breakEvent) return breakEvent.getPlayer();
+        if (event instanceof BlockPlaceEvent placeEvent) return placeEvent.getPlayer();
+        if (event instanceof BlockEvent blockEvent) return blockEvent.getBlock();
+        if (event instanceof InventoryInteractEvent interactEvent) return interactEvent.getWhoClicked();
+        if (event instanceof InventoryEvent inventoryEvent) return inventoryEvent.getView().getPlayer();
+        if (event instanceof WorldEvent worldEvent) return worldEvent.getWorld();
+        return null;
+    }
+
+    /**
+     * Get the secondary subject of an event, currently only the attacker of a damage event.
+     */
+    private static Object getSecondarySubject(Event event) {
+        if (event instanceof EntityDamageByEntityEvent damageEvent) {
+            Entity damager = damageEvent.getDamager();
+            if (damager instanceof Projectile projectile && projectile.getShooter() instanceof Entity shooter) {
+                return shooter;
+            }
+            return damager;
+        }
+        return null;
+    }
+
+    private static Minigame resolve(Object subject) {
+        if (subject instanceof Entity entity) return GameIndex.getMinigame(entity);
+        if (subject instanceof Block block) return GameIndex.getMinigame(block.getWorld());
+        if (subject instanceof World world) return GameIndex.getMinigame(world);
+        return null;
+    }
+
+    private static List<HandlerMethod> getHandlerMethods(Class<?> listenerClass) {
+        return handlerCache.computeIfAbsent(listenerClass, EventRouter::findHandlerMethods);
+    }
+
+    private static List<HandlerMethod> findHandlerMethods(Class<?> listenerClass) {
+        Set<Method> methods = new LinkedHashSet<>(Arrays.asList(listenerClass.getMethods()));
+        methods.addAll(Arrays.asList(listenerClass.getDeclaredMethods()));
+
+        List<HandlerMethod> handlers = new ArrayList<>();
+        for (Method method : methods) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation == null || method.isBridge() || method.isSynthetic()) continue;
+            if (method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) continue;
+
+            try {
+                method.setAccessible(true);
+                MethodHandle handle = MethodHandles.lookup().unreflect(method).asType(HANDLER_TYPE);
+                handlers.add(new HandlerMethod(
+                    method.getParameterTypes()[0].asSubclass(Event.class),
+                    annotation.priority(),
+                    annotation.ignoreCancelled(),
+                    handle
+                ));
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("Cannot route " + method + " in " + listenerClass.getName(), e);
+            }
+        }
+        return Collections.unmodifiableList(handlers);
+    }
+
+    /**
+     * All handlers for one (event class, priority) pair, grouped by minigame.
+     */
+    private final class Route {
+        private final Class<? extends Event> eventClass;
+        private final Map<Minigame, RoutedHandler[]> handlers = new ConcurrentHashMap<>();
+
+        private Route(Class<? extends Event> eventClass) {
+            this.eventClass = eventClass;
+        }
+
+        private void add(Minigame minigame, RoutedHandler handler) {
+            handlers.compute(minigame, (game, existing) -> {
+                if (existing == null) return new RoutedHandler[] {handler};
+                RoutedHandler[] updated = Arrays.copyOf(existing, existing.length + 1);
+                updated[existing.length] = handler;
+                return updated;
+            });
+        }
+
+        private void remove(Minigame minigame, RoutedHandler handler) {
+            handlers.computeIfPresent(minigame, (game, existing) -> {
+                RoutedHandler[] updated = Arrays.stream(existing)
+                    .filter(h -> h != handler)
+                    .toArray(RoutedHandler[]::new);
+                return updated.length == 0 ? null : updated;
+            });
+        }
+
+        private void dispatch(Event event) {
+            // Bukkit hands subclass registrations the parent's events too
+            if (!eventClass.isInstance(event) || handlers.isEmpty()) return;
+
+            Minigame primary = resolve(getSubject(event));
+            if (primary != null) {
+                RoutedHandler[] gameHandlers = handlers.get(primary);
+                if (gameHandlers != null) invoke(primary, gameHandlers, event);
+            }
+
+            Minigame secondary = resolve(getSecondarySubject(event));
+            if (secondary != null && secondary != primary) {
+                RoutedHandler[] gameHandlers = handlers.get(secondary);
+                if (gameHandlers != null) invoke(secondary, gameHandlers, event);
+            }
+        }
+    }
+
+    private record RouteKey(Class<? extends Event> eventClass, EventPriority priority) {}
+
+    private record HandlerMethod(Class<? extends Event> eventClass, EventPriority priority,
+                                 boolean ignoreCancelled, MethodHandle handle) {}
+
+    private record RoutedHandler(Listener listener, HandlerMethod method) {}
+
+    private record Registration(Route route, Minigame minigame, RoutedHandler handler) {}
+}
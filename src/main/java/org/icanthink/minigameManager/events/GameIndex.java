@@ -0,0 +1,122 @@
+package org.icanthink.minigameManager.events;
+
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.icanthink.minigameManager.Minigame;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global lookup from players, entities and worlds to the minigame that owns them.
+ * Used by the {@link EventRouter} to find which game an event belongs to.
+ * Backed by concurrent maps because some events (chat) are fired off the main thread.
+ */
+public final class GameIndex {
+    private static final Map<UUID, Minigame> players = new ConcurrentHashMap<>();
+    private static final Map<UUID, Minigame> entities = new ConcurrentHashMap<>();
+    private static final Map<UUID, Minigame> worlds = new ConcurrentHashMap<>();
+
+    private GameIndex() {
+    }
+
+    /**
+     * Mark a player as belonging to a minigame.
+     *
+     * @param playerId The player's UUID
+     * @param minigame The owning minigame
+     */
+    public static void bindPlayer(UUID playerId, Minigame minigame) {
+        players.put(playerId, minigame);
+    }
+
+    /**
+     * Remove a player's binding, but only if it still points at the given minigame.
+     *
+     * @param playerId The player's UUID
+     * @param minigame The minigame the player is leaving
+     */
+    public static void unbindPlayer(UUID playerId, Minigame minigame) {
+        players.remove(playerId, minigame);
+    }
+
+    /**
+     * Mark a non-player entity (usually a custom mob) as belonging to a minigame.
+     *
+     * @param entityId The entity's UUID
+     * @param minigame The owning minigame
+     */
+    public static void bindEntity(UUID entityId, Minigame minigame) {
+        entities.put(entityId, minigame);
+    }
+
+    /**
+     * Remove an entity's binding.
+     *
+     * @param entityId The entity's UUID
+     */
+    public static void unbindEntity(UUID entityId) {
+        entities.remove(entityId);
+    }
+
+    /**
+     * Mark a world as the game world of a minigame.
+     *
+     * @param world The game world
+     * @param minigame The owning minigame
+     */
+    public static void bindWorld(World world, Minigame minigame) {
+        worlds.put(world.getUID(), minigame);
+    }
+
+    /**
+     * Remove a world's binding.
+     *
+     * @param world The world to unbind
+     */
+    public static void unbindWorld(World world) {
+        worlds.remove(world.getUID());
+    }
+
+    /**
+     * Get the minigame a player belongs to.
+     *
+     * @param player The player
+     * @return The owning minigame, or null if the player is not in one
+     */
+    public static Minigame getMinigame(Player player) {
+        return players.get(player.getUniqueId());
+    }
+
+    /**
+     * Get the minigame an entity belongs to.
+     * Players are looked up by membership only; other entities fall back to
+     * the game owning the world they are in.
+     *
+     * @param entity The entity
+     * @return The owning minigame, or null if none
+     */
+    public static Minigame getMinigame(Entity entity) {
+        if (entity instanceof Player player) {
+            return getMinigame(player);
+        }
+
+        Minigame minigame = entities.get(entity.getUniqueId());
+        if (minigame != null) {
+            return minigame;
+        }
+        return getMinigame(entity.getWorld());
+    }
+
+    /**
+     * Get the minigame that owns a world.
+     *
+     * @param world The world
+     * @return The owning minigame, or null if the world is not a game world
+     */
+    public static Minigame getMinigame(World world) {
+        return world == null ? null : worlds.get(world.getUID());
+    }
+}
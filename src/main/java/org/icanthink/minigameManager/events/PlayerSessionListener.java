@@ -0,0 +1,32 @@
+package org.icanthink.minigameManager.events;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.icanthink.minigameManager.Minigame;
+
+/**
+ * Keeps minigame membership in step with logins and logouts.
+ * Members who log out stay in their game by UUID, but the game drops its reference to the
+ * old player object until they log back in.
+ */
+public class PlayerSessionListener implements Listener {
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Minigame minigame = GameIndex.getMinigame(event.getPlayer());
+        if (minigame != null) {
+            minigame.handleLogin(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Minigame minigame = GameIndex.getMinigame(event.getPlayer());
+        if (minigame != null) {
+            minigame.handleLogout(event.getPlayer());
+        }
+    }
+}
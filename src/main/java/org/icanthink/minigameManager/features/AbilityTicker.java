@@ -0,0 +1,227 @@
+package org.icanthink.minigameManager.features;
+
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.profiling.TickProfiler;
+
+import java.util.Arrays;
+import java.util.logging.Level;
+
+/**
+ * Drives all ticking abilities of a minigame from a single scheduler task.
+ * Active abilities are kept in a flat array that is walked once per tick, so adding or
+ * removing an ability is O(1) and a tick does not allocate.
+ */
+public class AbilityTicker extends Feature {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private Handle[] handles = new Handle[INITIAL_CAPACITY];
+    private int size;
+    private boolean ticking;
+    private long lastTickMicros;
+
+    public AbilityTicker(Minigame minigame) {
+        super(minigame);
+    }
+
+    /**
+     * A piece of per-player logic that runs every few ticks.
+     */
+    public interface Ability {
+        /**
+         * Run one step of the ability.
+         *
+         * @return false to remove the ability from the ticker
+         */
+        boolean tick();
+
+        /**
+         * Called once when the ability is removed, whether it stopped itself, was cancelled
+         * or the minigame ended.
+         */
+        default void onRemove() {
+        }
+    }
+
+    /**
+     * A running ability. Cancel it to remove the ability from the ticker.
+     */
+    public final class Handle {
+        private final Ability ability;
+        private final int interval;
+        private int countdown;
+        private int index;
+        private boolean removed;
+
+        private Handle(Ability ability, int interval) {
+            this.ability = ability;
+            this.interval = interval;
+            this.countdown = 1;
+        }
+
+        /**
+         * Check if the ability is still running.
+         *
+         * @return true if the ability has not been removed
+         */
+        public boolean isActive() {
+            return !removed;
+        }
+
+        /**
+         * Remove the ability from the ticker. Has no effect if it is already removed.
+         */
+        public void cancel() {
+            if (removed) return;
+            removed = true;
+
+            // Compacted when the tick loop reaches it
+            if (!ticking) {
+                removeAt(index);
+            }
+            notifyRemoved(ability);
+        }
+    }
+
+    /**
+     * Add an ability that runs every tick.
+     *
+     * @param ability The ability to run
+     * @return A handle to cancel the ability
+     */
+    public Handle add(Ability ability) {
+        return add(ability, 1);
+    }
+
+    /**
+     * Add an ability that runs every few ticks, starting on the next tick.
+     *
+     * @param ability The ability to run
+     * @param interval Ticks between runs
+     * @return A handle to cancel the ability
+     */
+    public Handle add(Ability ability, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Interval must be at least one tick");
+        }
+
+        Handle handle = new Handle(ability, interval);
+        if (!isEnabled()) {
+            handle.removed = true;
+            return handle;
+        }
+
+        if (size == handles.length) {
+            handles = Arrays.copyOf(handles, size * 2);
+        }
+        handle.index = size;
+        handles[size++] = handle;
+        return handle;
+    }
+
+    /**
+     * Get the number of running abilities.
+     *
+     * @return The active ability count
+     */
+    public int getActiveCount() {
+        return size;
+    }
+
+    /**
+     * Get how long the last tick took.
+     *
+     * @return The duration of the last tick in microseconds
+     */
+    public long getLastTickMicros() {
+        return lastTickMicros;
+    }
+
+    @Override
+    protected void onEnable() {
+        getScope().runTaskTimer(this::tick, 1L, 1L);
+    }
+
+    @Override
+    protected void onDisable() {
+        for (int i = 0; i < size; i++) {
+            Handle handle = handles[i];
+            handles[i] = null;
+            if (!handle.removed) {
+                handle.removed = true;
+                notifyRemoved(handle.ability);
+            }
+        }
+        size = 0;
+        lastTickMicros = 0;
+    }
+
+    private void tick() {
+        if (size == 0) {
+            lastTickMicros = 0;
+            return;
+        }
+
+        long start = System.nanoTime();
+        TickProfiler profiler = MinigameManager.plugin.getProfiler();
+        ticking = true;
+        try {
+            int i = 0;
+            while (i < size) {
+                Handle handle = handles[i];
+                if (handle.removed) {
+                    removeAt(i);
+                    continue;
+                }
+                if (--handle.countdown > 0) {
+                    i++;
+                    continue;
+                }
+                handle.countdown = handle.interval;
+
+                boolean keep;
+                long abilityStart = profiler.start();
+                try {
+                    keep = handle.ability.tick();
+                } catch (RuntimeException e) {
+                    MinigameManager.plugin.getLogger().log(Level.WARNING,
+                        "Ability " + handle.ability.getClass().getName() + " failed and was removed", e);
+                    keep = false;
+                } finally {
+                    profiler.stop(minigame, handle.ability.getClass(), abilityStart);
+                }
+
+                if (!keep) {
+                    handle.cancel();
+                }
+                if (handle.removed) {
+                    removeAt(i);
+                } else {
+                    i++;
+                }
+            }
+        } finally {
+            ticking = false;
+        }
+        lastTickMicros = (System.nanoTime() - start) / 1000;
+    }
+
+    private void removeAt(int index) {
+        int last = --size;
+        if (index != last) {
+            Handle moved = handles[last];
+            handles[index] = moved;
+            moved.index = index;
+        }
+        handles[last] = null;
+    }
+
+    private void notifyRemoved(Ability ability) {
+        try {
+            ability.onRemove();
+        } catch (RuntimeException e) {
+            MinigameManager.plugin.getLogger().log(Level.WARNING,
+                "Ability " + ability.getClass().getName() + " failed to clean up", e);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.icanthink.minigameManager.features;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.CompassMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.features.items.CustomItem;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Points tracking compasses at their holder's chosen target from a single task per minigame.
+ * Each viewer has their own target. The slot holding their compass is remembered, so an update
+ * only touches that one stack, and updates are rate-limited per viewer.
+ */
+public class CompassTracker extends Feature {
+    private static final int NO_SLOT = -1;
+
+    private final int updateInterval;
+    private final double thresholdSquared;
+    private final Map<UUID, Viewer> viewers = new LinkedHashMap<>();
+    private long tick;
+
+    public CompassTracker(Minigame minigame) {
+        super(minigame);
+        FileConfiguration config = MinigameManager.plugin.getConfig();
+        this.updateInterval = Math.max(1, config.getInt("compass_tracker.update_interval", 10));
+        double threshold = Math.max(0, config.getDouble("compass_tracker.movement_threshold", 5));
+        this.thresholdSquared = threshold * threshold;
+    }
+
+    /**
+     * Point a player's compass at a target. The compass is updated right away.
+     *
+     * @param viewer The player holding the compass
+     * @param target The player to track
+     * @param compass The custom item that counts as a tracking compass
+     */
+    public void setTarget(Player viewer, Player target, CustomItem compass) {
+        Viewer state = viewers.computeIfAbsent(viewer.getUniqueId(), id -> new Viewer(compass));
+        state.compass = compass;
+        state.target = target.getUniqueId();
+        state.lastWorld = null; // Force the next update
+        update(viewer, state);
+    }
+
+    /**
+     * Get the player a viewer is tracking.
+     *
+     * @param viewer The player holding the compass
+     * @return The tracked player, or null if the viewer is not tracking anyone online
+     */
+    public Player getTarget(Player viewer) {
+        Viewer state = viewers.get(viewer.getUniqueId());
+        return state == null ? null : MinigameManager.plugin.getServer().getPlayer(state.target);
+    }
+
+    /**
+     * Stop updating a player's compass.
+     *
+     * @param viewer The player holding the compass
+     */
+    public void clearTarget(Player viewer) {
+        viewers.remove(viewer.getUniqueId());
+    }
+
+    /**
+     * Get the number of players tracking someone.
+     *
+     * @return The viewer count
+     */
+    public int getViewerCount() {
+        return viewers.size();
+    }
+
+    @Override
+    protected void onEnable() {
+        getScope().runTaskTimer(this::tick, 1L, 1L);
+    }
+
+    @Override
+    protected void onDisable() {
+        viewers.clear();
+        tick = 0;
+    }
+
+    private void tick() {
+        tick++;
+        if (viewers.isEmpty() || !minigame.isRunning()) return;
+
+        Iterator<Map.Entry<UUID, Viewer>> iterator = viewers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Viewer> entry = iterator.next();
+            Viewer state = entry.getValue();
+            if (tick < state.nextUpdate) continue;
+
+            Player viewer = MinigameManager.plugin.getServer().getPlayer(entry.getKey());
+            if (viewer == null) continue; // Logged out; picked up again when they rejoin
+            if (!minigame.hasPlayer(viewer)) {
+                iterator.remove();
+                continue;
+            }
+            update(viewer, state);
+        }
+    }
+
+    private void update(Player viewer, Viewer state) {
+        state.nextUpdate = tick + updateInterval;
+
+        Player target = MinigameManager.plugin.getServer().getPlayer(state.target);
+        if (target == null || !minigame.hasPlayer(target)) return;
+
+        // Only update if the target has moved far enough
+        Location location = target.getLocation();
+        World world = location.getWorld();
+        if (world == state.lastWorld) {
+            double dx = location.getX() - state.lastX;
+            double dz = location.getZ() - state.lastZ;
+            if (dx * dx + dz * dz <= thresholdSquared) return;
+        }
+
+        ItemStack compass = findCompass(viewer.getInventory(), state);
+        if (compass == null) return;
+
+        ItemMeta meta = compass.getItemMeta();
+        if (!(meta instanceof CompassMeta compassMeta)) return;
+
+        // Point at the target's position but at world spawn height
+        compassMeta.setLodestone(new Location(world, location.getX(), 0, location.getZ()));
+        compassMeta.setLodestoneTracked(false);
+        compass.setItemMeta(compassMeta);
+
+        state.lastWorld = world;
+        state.lastX = location.getX();
+        state.lastZ = location.getZ();
+    }
+
+    /**
+     * Get the viewer's compass, checking the remembered slot first and scanning only if it moved.
+     */
+    private ItemStack findCompass(PlayerInventory inventory, Viewer state) {
+        if (state.slot != NO_SLOT) {
+            ItemStack item = inventory.getItem(state.slot);
+            if (state.compass.isInstance(item)) return item;
+        }
+
+        int size = inventory.getSize();
+        for (int slot = 0; slot < size; slot++) {
+            ItemStack item = inventory.getItem(slot);
+            if (item != null && state.compass.isInstance(item)) {
+                state.slot = slot;
+                return item;
+            }
+        }
+        state.slot = NO_SLOT;
+        return null;
+    }
+
+    /**
+     * What a single player is tracking and where their compass last pointed.
+     */
+    private static final class Viewer {
+        private CustomItem compass;
+        private UUID target;
+        private int slot = NO_SLOT;
+        private long nextUpdate;
+        private World lastWorld;
+        private double lastX;
+        private double lastZ;
+
+        private Viewer(CustomItem compass) {
+            this.compass = compass;
+        }
+    }
+}
@@ -20,7 +20,7 @@ public class CopperDropIron extends Feature implements Listener {
     @EventHandler
     public void onBlockBreak(BlockBreakEvent event) {
         // Check if the player is in this minigame and the minigame is running
-        if (!minigame.isRunning() || !minigame.getPlayers().contains(event.getPlayer())) {
+        if (!minigame.isRunning() || !minigame.hasPlayer(event.getPlayer())) {
             return;
         }
 
@@ -1,31 +1,43 @@
 package org.icanthink.minigameManager.features;
 
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.function.Consumer;
-import java.util.function.Predicate;
 
 /**
  * Feature that provides death management functionality for minigames.
+ * Each player gets a slot in a dead-player bitset the first time their state is needed, so death
+ * checks are constant time. The number of dead members, online or not, is counted as players die,
+ * are revived, join and leave, so the living member count is constant time too.
+ * Win conditions are checked whenever a player dies or is revived.
  */
 public class DeathManager extends Feature implements Listener {
-    private final List<Player> deadPlayers = new ArrayList<>();
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final BitSet dead = new BitSet();
+    private final List<WinCondition> winConditions = new ArrayList<>();
     private Consumer<Player> deathCallback;
+    private Consumer<WinCondition.Result> winCallback;
+    private boolean decided;
+    private int deadMembers; // Members of the minigame whose bit is set, including offline ones
+
+    // Living players, rebuilt when a death state changes or the minigame's player list is replaced
+    private List<Player> livingView;
+    private List<Player> livingSource;
 
     public DeathManager(Minigame minigame) {
         super(minigame);
-        // Register this class as an event listener
-        Bukkit.getPluginManager().registerEvents(this, MinigameManager.plugin);
     }
 
     /**
@@ -38,13 +50,39 @@ public class DeathManager extends Feature implements Listener {
     }
 
     /**
-     * Get the list of dead players in the minigame.
+     * Add a condition that decides when the game is over.
+     * Conditions are checked in the order they were added, after every death and revive.
+     *
+     * @param condition The win condition to add
+     */
+    public void addWinCondition(WinCondition condition) {
+        winConditions.add(condition);
+    }
+
+    /**
+     * Set a callback that will be called once, when the first win condition is met.
+     *
+     * @param callback The callback to be called with the result
+     */
+    public void setWinCallback(Consumer<WinCondition.Result> callback) {
+        this.winCallback = callback;
+    }
+
+    /**
+     * Get the online dead players in the minigame.
      *
-     * @return List of dead players
+     * @return Unmodifiable list of dead players
      */
     public List<Player> getDeadPlayers() {
-        return deadPlayers;
+        List<Player> deadPlayers = new ArrayList<>();
+        for (Player player : minigame.getPlayers()) {
+            if (isPlayerDead(player)) {
+                deadPlayers.add(player);
+            }
+        }
+        return Collections.unmodifiableList(deadPlayers);
     }
+
     /**
      * Check if the minigame is currently running.
      *
@@ -61,27 +99,97 @@ public class DeathManager extends Feature implements Listener {
      * @return true if the player is dead, false otherwise
      */
     public boolean isPlayerDead(Player player) {
-        return deadPlayers.contains(player);
+        return isPlayerDead(player.getUniqueId());
+    }
+
+    /**
+     * Check if a player is dead in the minigame, whether or not they are online.
+     *
+     * @param playerId The player's UUID
+     * @return true if the player is dead, false otherwise
+     */
+    public boolean isPlayerDead(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        return slot != null && dead.get(slot);
+    }
+
+    /**
+     * Count the members of the minigame who are alive, including those who are logged out.
+     *
+     * @return The living member count
+     */
+    public int getLivingMemberCount() {
+        return minigame.getPlayerIds().size() - deadMembers;
+    }
+
+    /**
+     * Get the UUIDs of the living members, including those who are logged out.
+     * This scans every member, so win conditions should only call it once the game is decided.
+     *
+     * @return List of living member UUIDs
+     */
+    public List<UUID> getLivingMemberIds() {
+        List<UUID> living = new ArrayList<>();
+        for (UUID playerId : minigame.getPlayerIds()) {
+            if (!isPlayerDead(playerId)) {
+                living.add(playerId);
+            }
+        }
+        return living;
+    }
+
+    /**
+     * Count a new member who is already dead. Called by the minigame when a player joins.
+     *
+     * @param playerId The member's UUID
+     */
+    public void memberJoined(UUID playerId) {
+        if (isPlayerDead(playerId)) {
+            deadMembers++;
+            publishAliveCount();
+        }
+    }
+
+    /**
+     * Stop counting a dead member who left. Called by the minigame when a player leaves.
+     *
+     * @param playerId The former member's UUID
+     */
+    public void memberLeft(UUID playerId) {
+        if (isPlayerDead(playerId)) {
+            deadMembers--;
+            publishAliveCount();
+        }
     }
 
     /**
-     * Get all living players in the minigame.
+     * Get all online living players in the minigame.
+     * The list is cached until a player dies, is revived, joins or leaves.
      *
-     * @return List of living players
+     * @return Unmodifiable list of living players
      */
     public List<Player> getLivingPlayers() {
-        List<Player> livingPlayers = new ArrayList<>(minigame.getPlayers());
-        livingPlayers.removeAll(deadPlayers);
-        return livingPlayers;
+        List<Player> players = minigame.getPlayers();
+        if (livingView == null || livingSource != players) {
+            List<Player> living = new ArrayList<>(players.size());
+            for (Player player : players) {
+                if (!isPlayerDead(player)) {
+                    living.add(player);
+                }
+            }
+            livingView = Collections.unmodifiableList(living);
+            livingSource = players;
+        }
+        return livingView;
     }
 
     /**
-     * Count the number of living players in the minigame.
+     * Count the number of online living players in the minigame.
      *
      * @return The count of living players
      */
     public int getLivingPlayerCount() {
-        return minigame.getPlayers().size() - deadPlayers.size();
+        return getLivingPlayers().size();
     }
 
     /**
@@ -91,18 +199,28 @@ public class DeathManager extends Feature implements Listener {
      * @return true if the player was revived, false if they weren't dead
      */
     public boolean revivePlayer(Player player) {
-        if (isPlayerDead(player)) {
-            deadPlayers.remove(player);
+        if (!isPlayerDead(player)) return false;
 
-            // If using PlayerResetter, reset the player
-            PlayerResetter resetter = minigame.getFeature(PlayerResetter.class);
-            if (resetter != null) {
-                resetter.resetPlayer(player);
-            }
+        dead.clear(slots.get(player.getUniqueId()));
+        livingView = null;
+        if (minigame.hasPlayer(player)) {
+            deadMembers--;
+        }
+
+        TeamManager teamManager = minigame.getFeature(TeamManager.class);
+        if (teamManager != null) {
+            teamManager.playerRevived(player);
+        }
 
-            return true;
+        // If using PlayerResetter, reset the player
+        PlayerResetter resetter = minigame.getFeature(PlayerResetter.class);
+        if (resetter != null) {
+            resetter.resetPlayer(player);
         }
-        return false;
+
+        publishAliveCount();
+        checkWinConditions(player);
+        return true;
     }
 
     /**
@@ -111,18 +229,66 @@ public class DeathManager extends Feature implements Listener {
      * @param player The player who died
      */
     public void setPlayerAsDead(Player player) {
-        if (!isPlayerDead(player)) {
-            deadPlayers.add(player);
+        if (isPlayerDead(player)) return;
 
-            // If using PlayerResetter, set player to spectator
-            PlayerResetter resetter = minigame.getFeature(PlayerResetter.class);
-            if (resetter != null) {
-                resetter.setPlayerSpectator(player);
-            }
+        dead.set(slots.computeIfAbsent(player.getUniqueId(), id -> slots.size()));
+        livingView = null;
+        if (minigame.hasPlayer(player)) {
+            deadMembers++;
+        }
+
+        // Keep the team alive counts current, which may raise the last team callback
+        TeamManager teamManager = minigame.getFeature(TeamManager.class);
+        if (teamManager != null) {
+            teamManager.playerDied(player);
+        }
+
+        // If using PlayerResetter, set player to spectator
+        PlayerResetter resetter = minigame.getFeature(PlayerResetter.class);
+        if (resetter != null) {
+            resetter.setPlayerSpectator(player);
+        }
+
+        // Call the death callback if one is set
+        if (deathCallback != null) {
+            deathCallback.accept(player);
+        }
 
-            // Call the death callback if one is set
-            if (deathCallback != null) {
-                deathCallback.accept(player);
+        publishAliveCount();
+        checkWinConditions(player);
+    }
+
+    @Override
+    protected void onEnable() {
+        publishAliveCount();
+    }
+
+    /**
+     * Show the number of living players on the sidebar, if the minigame has one.
+     */
+    private void publishAliveCount() {
+        Sidebar sidebar = minigame.getSidebar();
+        if (sidebar != null) {
+            sidebar.publish("alive", "Alive", getLivingMemberCount() + "/" + minigame.getPlayerIds().size());
+        }
+    }
+
+    /**
+     * Check the win conditions after a player's death state changed, until one is met.
+     *
+     * @param player The player who died or was revived
+     */
+    private void checkWinConditions(Player player) {
+        if (decided) return;
+
+        for (WinCondition condition : winConditions) {
+            WinCondition.Result result = condition.evaluate(this, player);
+            if (result != null) {
+                decided = true;
+                if (winCallback != null) {
+                    winCallback.accept(result);
+                }
+                return;
             }
         }
     }
@@ -130,32 +296,20 @@ public class DeathManager extends Feature implements Listener {
     /**
      * Handle player damage in minigames to prevent deaths and set to spectator.
      */
-    @EventHandler(priority = EventPriority.HIGHEST)
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
     public void onPlayerDamage(EntityDamageEvent event) {
-        // If the event is already cancelled, don't proceed
-        if (event.isCancelled()) return;
-
-        if (!(event.getEntity() instanceof Player)) {
-            return;
-        }
+        if (!(event.getEntity() instanceof Player player)) return;
 
-        Player player = (Player) event.getEntity();
+        // Most damage is not fatal, so check that before the membership lookup
+        if (player.getHealth() - event.getFinalDamage() > 0) return;
 
         // Check if the player is in this minigame and the minigame is running
-        if (!minigame.isRunning() || !minigame.getPlayers().contains(player)) {
-            return;
-        }
-
-        // Check if this damage would be fatal
-        if (player.getHealth() - event.getFinalDamage() > 0) {
-            return;
-        }
+        if (!minigame.isRunning() || !minigame.hasPlayer(player)) return;
 
         // Cancel the damage event to prevent death
         event.setCancelled(true);
 
         // Set the player as dead
         setPlayerAsDead(player);
-
     }
-}
\ No newline at end of file
+}
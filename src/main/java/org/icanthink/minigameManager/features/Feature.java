@@ -1,16 +1,21 @@
 package org.icanthink.minigameManager.features;
 
+import org.bukkit.event.Listener;
 import org.icanthink.minigameManager.Minigame;
 
 /**
  * Base class for all minigame features.
  * Features provide modular functionality that can be added to minigames.
+ * The owning minigame enables its features when it starts and disables them when it ends.
  */
 public abstract class Feature {
     protected final Minigame minigame;
+    private final FeatureScope scope;
+    private boolean enabled;
 
     public Feature(Minigame minigame) {
         this.minigame = minigame;
+        this.scope = new FeatureScope(minigame, getClass());
     }
 
     /**
@@ -21,4 +26,64 @@ public abstract class Feature {
     public Minigame getMinigame() {
         return minigame;
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the scope holding the listeners, tasks and boss bars this feature owns.
+     *
+     * @return The feature's scope
+     */
+    public FeatureScope getScope() {
+        return scope;
+    }
+
+    /**
+     * Check if this feature is currently enabled.
+     *
+     * @return true if the feature is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable this feature. Called by the minigame when it starts.
+     * Features that are listeners are registered automatically.
+     */
+    public final void enable() {
+        if (enabled) return;
+        enabled = true;
+
+        if (this instanceof Listener listener) {
+            scope.registerListener(listener);
+        }
+        onEnable();
+    }
+
+    /**
+     * Disable this feature and release its scope. Called by the minigame when it ends.
+     */
+    public final void disable() {
+        if (!enabled) return;
+        enabled = false;
+
+        try {
+            onDisable();
+        } finally {
+            scope.release();
+        }
+    }
+
+    /**
+     * Called when the feature is enabled.
+     * Override this method to register tasks or other resources through {@link #getScope()}.
+     */
+    protected void onEnable() {
+    }
+
+    /**
+     * Called when the feature is disabled, before its scope is released.
+     * Override this method to undo changes made to players or the world.
+     */
+    protected void onDisable() {
+    }
+}
@@ -0,0 +1,186 @@
+package org.icanthink.minigameManager.features;
+
+import org.bukkit.Bukkit;
+import org.bukkit.boss.BossBar;
+import org.bukkit.event.Listener;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.MinigameManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Tracks the listeners, scheduled tasks and boss bars a feature acquires while its minigame runs.
+ * Everything registered through a scope is released together when the feature is disabled.
+ */
+public class FeatureScope {
+    private final Minigame minigame;
+    private final Class<?> owner;
+    private final Set<Listener> listeners = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<BukkitTask> tasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<BossBar> bossBars = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public FeatureScope(Minigame minigame) {
+        this(minigame, minigame.getClass());
+    }
+
+    /**
+     * Create a scope whose tasks are profiled under the given owner class.
+     *
+     * @param minigame The minigame the scope belongs to
+     * @param owner The class the scope's tasks are attributed to
+     */
+    public FeatureScope(Minigame minigame, Class<?> owner) {
+        this.minigame = minigame;
+        this.owner = owner;
+    }
+
+    /**
+     * Route a listener's events to this scope's minigame until the scope is released.
+     *
+     * @param listener The listener to register
+     */
+    public void registerListener(Listener listener) {
+        if (listeners.add(listener)) {
+            MinigameManager.plugin.getEventRouter().register(minigame, listener);
+        }
+    }
+
+    /**
+     * Stop routing a listener's events before the scope is released.
+     *
+     * @param listener The listener to unregister
+     */
+    public void unregisterListener(Listener listener) {
+        if (listeners.remove(listener)) {
+            MinigameManager.plugin.getEventRouter().unregister(listener);
+        }
+    }
+
+    /**
+     * Run a task on the next tick.
+     *
+     * @param task The task to run
+     * @return The scheduled task
+     */
+    public BukkitTask runTask(Runnable task) {
+        return track(Bukkit.getScheduler().runTask(MinigameManager.plugin, profiled(task)));
+    }
+
+    /**
+     * Run a task after a delay.
+     *
+     * @param task The task to run
+     * @param delay Delay in ticks
+     * @return The scheduled task
+     */
+    public BukkitTask runTaskLater(Runnable task, long delay) {
+        return track(Bukkit.getScheduler().runTaskLater(MinigameManager.plugin, profiled(task), delay));
+    }
+
+    /**
+     * Run a repeating task.
+     *
+     * @param task The task to run
+     * @param delay Delay in ticks before the first run
+     * @param period Ticks between runs
+     * @return The scheduled task
+     */
+    public BukkitTask runTaskTimer(Runnable task, long delay, long period) {
+        return track(Bukkit.getScheduler().runTaskTimer(MinigameManager.plugin, profiled(task), delay, period));
+    }
+
+    /**
+     * Track a task that was scheduled elsewhere (e.g. a BukkitRunnable) so it is cancelled with the scope.
+     *
+     * @param task The task to track
+     * @return The same task
+     */
+    public BukkitTask track(BukkitTask task) {
+        pruneTasks();
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Track a boss bar so all of its viewers are removed with the scope.
+     *
+     * @param bossBar The boss bar to track
+     * @return The same boss bar
+     */
+    public BossBar track(BossBar bossBar) {
+        bossBars.add(bossBar);
+        return bossBar;
+    }
+
+    /**
+     * Stop tracking a boss bar that has already been cleaned up.
+     *
+     * @param bossBar The boss bar to forget
+     */
+    public void untrack(BossBar bossBar) {
+        bossBars.remove(bossBar);
+    }
+
+    /**
+     * Get the number of listeners registered through this scope.
+     *
+     * @return The listener count
+     */
+    public int getListenerCount() {
+        return listeners.size();
+    }
+
+    /**
+     * Get the number of tracked tasks that are still queued or running.
+     *
+     * @return The live task count
+     */
+    public int getLiveTaskCount() {
+        pruneTasks();
+        return tasks.size();
+    }
+
+    /**
+     * Get the number of tracked boss bars.
+     *
+     * @return The boss bar count
+     */
+    public int getBossBarCount() {
+        return bossBars.size();
+    }
+
+    /**
+     * Release everything acquired through this scope.
+     */
+    public void release() {
+        for (Listener listener : new ArrayList<>(listeners)) {
+            MinigameManager.plugin.getEventRouter().unregister(listener);
+        }
+        listeners.clear();
+
+        for (BukkitTask task : tasks) {
+            task.cancel();
+        }
+        tasks.clear();
+
+        for (BossBar bossBar : bossBars) {
+            bossBar.removeAll();
+        }
+        bossBars.clear();
+    }
+
+    private Runnable profiled(Runnable task) {
+        return MinigameManager.plugin.getProfiler().wrap(minigame, owner, task);
+    }
+
+    private void pruneTasks() {
+        BukkitScheduler scheduler = Bukkit.getScheduler();
+        tasks.removeIf(task -> task.isCancelled()
+            || !(scheduler.isQueued(task.getTaskId()) || scheduler.isCurrentlyRunning(task.getTaskId())));
+    }
+}
@@ -1,11 +1,9 @@
 package org.icanthink.minigameManager.features;
 
-import org.bukkit.Bukkit;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.FurnaceStartSmeltEvent;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
 import org.bukkit.Material;
 
 /**
@@ -15,8 +13,6 @@ public class InstantSmelting extends Feature implements Listener {
 
     public InstantSmelting(Minigame minigame) {
         super(minigame);
-        // Register this feature as a listener
-        Bukkit.getPluginManager().registerEvents(this, MinigameManager.plugin);
     }
 
     @EventHandler
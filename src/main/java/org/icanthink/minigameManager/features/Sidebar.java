@@ -0,0 +1,199 @@
+package org.icanthink.minigameManager.features;
+
+import io.papermc.paper.scoreboard.numbers.NumberFormat;
+import org.bukkit.ChatColor;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+import org.icanthink.minigameManager.Minigame;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feature that shows a sidebar on the minigame's scoreboard.
+ * Other features publish lines under a key, such as "alive" or "time", and never touch the
+ * scoreboard themselves. Lines are shown in the order their keys were first published.
+ * <p>
+ * The sidebar keeps the lines it last sent and only sends lines that changed, at most once every
+ * {@link #RENDER_INTERVAL} ticks. Every viewer of the game's scoreboard receives each change, so
+ * the cap applies per viewer as well.
+ */
+public class Sidebar extends Feature {
+    public static final long RENDER_INTERVAL = 10L; // Minimum ticks between updates sent to viewers
+    private static final int MAX_LINES = 15; // The client shows no more than this
+    private static final String OBJECTIVE_NAME = "mm_sidebar";
+    private static final String LINE_TEAM_PREFIX = "mm_line_";
+
+    private String title;
+    private final Map<String, String> values; // Key -> line, in display order
+    private boolean dirty;
+    private boolean titleDirty;
+
+    // What viewers were last sent
+    private Objective objective;
+    private final Team[] lineTeams;
+    private final String[] sentLines;
+    private int sentCount;
+
+    public Sidebar(Minigame minigame, String title) {
+        super(minigame);
+        this.title = title;
+        this.values = new LinkedHashMap<>();
+        this.lineTeams = new Team[MAX_LINES];
+        this.sentLines = new String[MAX_LINES];
+    }
+
+    /**
+     * Set the sidebar title.
+     *
+     * @param title The new title
+     */
+    public void setTitle(String title) {
+        if (title.equals(this.title)) return;
+        this.title = title;
+        titleDirty = true;
+    }
+
+    /**
+     * Publish a line. A key that was published before keeps its position.
+     *
+     * @param key The key identifying the line
+     * @param line The text to show
+     */
+    public void publish(String key, String line) {
+        String previous = values.put(key, line);
+        if (!line.equals(previous)) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Publish a labelled value, shown as "label: value".
+     *
+     * @param key The key identifying the line
+     * @param label The label in front of the value
+     * @param value The value to show
+     */
+    public void publish(String key, String label, Object value) {
+        publish(key, ChatColor.GRAY + label + ": " + ChatColor.WHITE + value);
+    }
+
+    /**
+     * Remove a line.
+     *
+     * @param key The key of the line to remove
+     */
+    public void remove(String key) {
+        if (values.remove(key) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Get the number of lines viewers were last sent.
+     *
+     * @return The shown line count
+     */
+    public int getShownLineCount() {
+        return sentCount;
+    }
+
+    @Override
+    protected void onEnable() {
+        dirty = true;
+        getScope().runTaskTimer(this::render, 1L, RENDER_INTERVAL);
+    }
+
+    @Override
+    protected void onDisable() {
+        if (objective != null) {
+            objective.unregister();
+            objective = null;
+        }
+        for (int i = 0; i < MAX_LINES; i++) {
+            if (lineTeams[i] != null) {
+                lineTeams[i].unregister();
+                lineTeams[i] = null;
+            }
+            sentLines[i] = null;
+        }
+        sentCount = 0;
+    }
+
+    /**
+     * Send the lines that changed since the last render.
+     */
+    private void render() {
+        if (objective == null) {
+            createObjective();
+        } else if (titleDirty) {
+            objective.setDisplayName(title);
+        }
+        titleDirty = false;
+
+        if (!dirty) return;
+        dirty = false;
+
+        List<String> lines = new ArrayList<>(values.values());
+        int count = Math.min(lines.size(), MAX_LINES);
+
+        for (int i = 0; i < count; i++) {
+            String line = lines.get(i);
+            if (line.equals(sentLines[i])) continue;
+
+            lineTeam(i).setPrefix(line);
+            if (i >= sentCount) {
+                // Scores are fixed per row, so adding or removing a line never moves the others
+                objective.getScore(lineEntry(i)).setScore(-i);
+            }
+            sentLines[i] = line;
+        }
+
+        for (int i = count; i < sentCount; i++) {
+            objective.getScoreboard().resetScores(lineEntry(i));
+            sentLines[i] = null;
+        }
+        sentCount = count;
+    }
+
+    private void createObjective() {
+        Scoreboard scoreboard = minigame.getScoreboard();
+        objective = scoreboard.getObjective(OBJECTIVE_NAME);
+        if (objective == null) {
+            objective = scoreboard.registerNewObjective(OBJECTIVE_NAME, Criteria.DUMMY, title);
+        } else {
+            objective.setDisplayName(title);
+        }
+        objective.numberFormat(NumberFormat.blank());
+        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+    }
+
+    /**
+     * Get the team whose prefix holds a row's text, registering it on first use.
+     */
+    private Team lineTeam(int row) {
+        if (lineTeams[row] == null) {
+            Scoreboard scoreboard = minigame.getScoreboard();
+            Team team = scoreboard.getTeam(LINE_TEAM_PREFIX + row);
+            if (team == null) {
+                team = scoreboard.registerNewTeam(LINE_TEAM_PREFIX + row);
+            }
+            team.addEntry(lineEntry(row));
+            lineTeams[row] = team;
+        }
+        return lineTeams[row];
+    }
+
+    /**
+     * Get the invisible scoreboard entry of a row. Changing a row's text only changes its team's
+     * prefix, which is a single small update instead of removing and re-adding the score.
+     */
+    private static String lineEntry(int row) {
+        return ChatColor.values()[row].toString() + ChatColor.RESET;
+    }
+}
@@ -1,5 +1,6 @@
 package org.icanthink.minigameManager.features;
 
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
@@ -8,25 +9,60 @@ import org.bukkit.scoreboard.Team;
 import org.icanthink.minigameManager.Minigame;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Feature that provides team management functionality for minigames.
+ * Teams are numbered by their position in the team colors, and the number of living players
+ * per team is kept up to date as players join, leave, die and are revived.
+ * Name color changes are queued and sent a few per tick, since each one is broadcast to every client.
+ * Members are tracked by UUID, so they keep their team when they log out and back in.
  */
 public class TeamManager extends Feature implements Listener {
+    private static final int NO_TEAM = -1;
+    private static final int NAME_UPDATES_PER_TICK = 50;
+
     private final Scoreboard scoreboard;
-    private final Map<String, Team> teamMap;
-    private final Map<Player, String> playerTeams;
-    private final String[] teamColors;
+    private final String[] teamColors; // Team ID -> team name
+    private final Team[] teams;
+    private final Map<String, Integer> teamIds;
+    private final Map<UUID, Integer> playerTeams;
+    private final Set<UUID> deadMembers;
+    private final int[] aliveCount;
+    private int teamsAlive;
+    private Consumer<String> lastTeamCallback;
+    private final Map<UUID, Integer> pendingNames; // Player UUID -> team whose color to show, in queue order
+
+    /**
+     * Create a team manager that registers its teams on the minigame's own scoreboard.
+     *
+     * @param minigame The minigame
+     * @param teamColors The team names, which must be ChatColor names
+     */
+    public TeamManager(Minigame minigame, String[] teamColors) {
+        this(minigame, minigame.getScoreboard(), teamColors);
+    }
 
     public TeamManager(Minigame minigame, Scoreboard scoreboard, String[] teamColors) {
         super(minigame);
         this.scoreboard = scoreboard;
-        this.teamMap = new HashMap<>();
-        this.playerTeams = new HashMap<>();
         this.teamColors = teamColors;
+        this.teams = new Team[teamColors.length];
+        this.teamIds = new HashMap<>();
+        this.playerTeams = new HashMap<>();
+        this.deadMembers = new HashSet<>();
+        this.aliveCount = new int[teamColors.length];
+        this.pendingNames = new LinkedHashMap<>();
         initializeTeams();
     }
 
@@ -42,19 +78,27 @@ public class TeamManager extends Feature implements Listener {
     /**
      * Get the map of team names to Team objects.
      *
-     * @return Map of team names to Team objects
+     * @return Unmodifiable map of team names to Team objects
      */
     public Map<String, Team> getTeamMap() {
-        return teamMap;
+        Map<String, Team> teamMap = new LinkedHashMap<>();
+        for (int id = 0; id < teams.length; id++) {
+            teamMap.put(teamColors[id], teams[id]);
+        }
+        return Collections.unmodifiableMap(teamMap);
     }
 
     /**
-     * Get the map of players to their team names.
+     * Get the map of player UUIDs to their team names, including offline members.
      *
-     * @return Map of players to their team names
+     * @return Unmodifiable map of player UUIDs to their team names
      */
-    public Map<Player, String> getPlayerTeams() {
-        return playerTeams;
+    public Map<UUID, String> getPlayerTeams() {
+        Map<UUID, String> names = new HashMap<>();
+        for (Map.Entry<UUID, Integer> entry : playerTeams.entrySet()) {
+            names.put(entry.getKey(), teamColors[entry.getValue()]);
+        }
+        return Collections.unmodifiableMap(names);
     }
 
     /**
@@ -66,13 +110,53 @@ public class TeamManager extends Feature implements Listener {
         return teamColors;
     }
 
+    /**
+     * Get the ID of a team. Team IDs are the team's index in the team colors.
+     *
+     * @param teamName The name of the team
+     * @return The team ID, or -1 if there is no such team
+     */
+    public int getTeamId(String teamName) {
+        return teamIds.getOrDefault(teamName, NO_TEAM);
+    }
+
+    /**
+     * Get the ID of the team a player is on.
+     *
+     * @param player The player
+     * @return The team ID, or -1 if the player is not on a team
+     */
+    public int getTeamId(Player player) {
+        return playerTeams.getOrDefault(player.getUniqueId(), NO_TEAM);
+    }
+
+    /**
+     * Get the name of a team by its ID.
+     *
+     * @param teamId The team ID
+     * @return The team name
+     */
+    public String getTeamName(int teamId) {
+        return teamColors[teamId];
+    }
+
+    /**
+     * Set a callback that will be called when exactly one team with living players remains.
+     *
+     * @param callback The callback, given the name of the last team standing
+     */
+    public void setLastTeamCallback(Consumer<String> callback) {
+        this.lastTeamCallback = callback;
+    }
+
     /**
      * Initialize teams with the given colors.
      * This should be called during minigame setup.
      */
     public void initializeTeams() {
         // Create teams for each color
-        for (String color : teamColors) {
+        for (int id = 0; id < teamColors.length; id++) {
+            String color = teamColors[id];
             Team team = scoreboard.registerNewTeam(color.toLowerCase());
             team.setAllowFriendlyFire(false);
             team.setCanSeeFriendlyInvisibles(true);
@@ -84,39 +168,100 @@ public class TeamManager extends Feature implements Listener {
                 team.setColor(ChatColor.WHITE);
             }
 
-            teamMap.put(color, team);
+            teams[id] = team;
+            teamIds.put(color, id);
         }
     }
 
     /**
      * Assign players to teams, distributing them evenly.
+     * Only the difference to the current assignment is applied, with one bulk update per team,
+     * and name colors are only queued for players whose team changed.
      *
      * @param players List of players to assign to teams
      */
     public void assignPlayersToTeams(List<Player> players) {
         // Calculate how many teams to use based on player count
         int teamsToUse = Math.min(teamColors.length, Math.max(2, players.size() / 2));
-        String[] activeTeams = new String[teamsToUse];
 
-        // Select teams to use
-        System.arraycopy(teamColors, 0, activeTeams, 0, teamsToUse);
+        // Work out the final assignment first
+        Map<Player, Integer> assignment = new LinkedHashMap<>();
+        List<Set<String>> wanted = new ArrayList<>(teams.length);
+        for (int id = 0; id < teams.length; id++) {
+            wanted.add(new HashSet<>());
+        }
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            int teamId = i % teamsToUse;
+            assignment.put(player, teamId);
+            wanted.get(teamId).add(player.getName());
+        }
+
+        // Apply the difference to each scoreboard team
+        for (int id = 0; id < teams.length; id++) {
+            Set<String> current = teams[id].getEntries();
+            List<String> removed = new ArrayList<>();
+            for (String entry : current) {
+                if (!wanted.get(id).contains(entry)) {
+                    removed.add(entry);
+                }
+            }
+            List<String> added = new ArrayList<>();
+            for (String entry : wanted.get(id)) {
+                if (!current.contains(entry)) {
+                    added.add(entry);
+                }
+            }
 
-        // Clear existing team assignments
-        for (Team team : teamMap.values()) {
-            for (String entry : team.getEntries()) {
-                team.removeEntry(entry);
+            if (!removed.isEmpty()) {
+                teams[id].removeEntries(removed);
+            }
+            if (!added.isEmpty()) {
+                teams[id].addEntries(added);
             }
         }
-        playerTeams.clear();
 
-        // Assign players to teams
-        for (int i = 0; i < players.size(); i++) {
-            Player player = players.get(i);
-            String teamName = activeTeams[i % teamsToUse];
-            Team team = teamMap.get(teamName);
+        // Only players who left or changed team need new name colors
+        Set<UUID> assigned = new HashSet<>();
+        for (Player player : assignment.keySet()) {
+            assigned.add(player.getUniqueId());
+        }
+        for (UUID playerId : playerTeams.keySet()) {
+            if (!assigned.contains(playerId)) {
+                Player player = Bukkit.getPlayer(playerId);
+                if (player != null) {
+                    queueNames(player, NO_TEAM);
+                }
+            }
+        }
+        for (Map.Entry<Player, Integer> entry : assignment.entrySet()) {
+            if (!entry.getValue().equals(playerTeams.get(entry.getKey().getUniqueId()))) {
+                queueNames(entry.getKey(), entry.getValue());
+            }
+        }
 
-            addPlayerToTeam(player, teamName);
+        // Recount the living players of each team
+        playerTeams.clear();
+        for (Map.Entry<Player, Integer> entry : assignment.entrySet()) {
+            playerTeams.put(entry.getKey().getUniqueId(), entry.getValue());
+        }
+        deadMembers.clear();
+        Arrays.fill(aliveCount, 0);
+        DeathManager deathManager = minigame.getFeature(DeathManager.class);
+        for (Map.Entry<Player, Integer> entry : assignment.entrySet()) {
+            if (deathManager != null && deathManager.isPlayerDead(entry.getKey())) {
+                deadMembers.add(entry.getKey().getUniqueId());
+            } else {
+                aliveCount[entry.getValue()]++;
+            }
         }
+        teamsAlive = 0;
+        for (int count : aliveCount) {
+            if (count > 0) {
+                teamsAlive++;
+            }
+        }
+        publishTeamsAlive();
     }
 
     /**
@@ -126,15 +271,23 @@ public class TeamManager extends Feature implements Listener {
      * @param teamName The name of the team to add the player to
      */
     public void addPlayerToTeam(Player player, String teamName) {
-        Team team = teamMap.get(teamName);
-        if (team != null) {
-            team.addEntry(player.getName());
-            playerTeams.put(player, teamName);
+        int teamId = getTeamId(teamName);
+        if (teamId == NO_TEAM) return;
+
+        removePlayerFromTeam(player);
+
+        teams[teamId].addEntry(player.getName());
+        playerTeams.put(player.getUniqueId(), teamId);
 
-            // Set player name color
-            player.setDisplayName(team.getColor() + player.getName() + ChatColor.RESET);
-            player.setPlayerListName(team.getColor() + player.getName() + ChatColor.RESET);
+        DeathManager deathManager = minigame.getFeature(DeathManager.class);
+        if (deathManager != null && deathManager.isPlayerDead(player)) {
+            deadMembers.add(player.getUniqueId());
+        } else {
+            changeAlive(teamId, 1);
         }
+
+        // Set player name color
+        queueNames(player, teamId);
     }
 
     /**
@@ -143,64 +296,173 @@ public class TeamManager extends Feature implements Listener {
      * @param player The player to remove
      */
     public void removePlayerFromTeam(Player player) {
-        String teamName = playerTeams.get(player);
-        if (teamName != null) {
-            Team team = teamMap.get(teamName);
-            if (team != null) {
-                team.removeEntry(player.getName());
-            }
-            playerTeams.remove(player);
+        Integer teamId = playerTeams.remove(player.getUniqueId());
+        if (teamId == null) return;
+
+        teams[teamId].removeEntry(player.getName());
+        if (!deadMembers.remove(player.getUniqueId())) {
+            changeAlive(teamId, -1);
+        }
+
+        // Reset player name
+        queueNames(player, NO_TEAM);
+    }
+
+    /**
+     * Count a team member as dead. Called by the DeathManager.
+     *
+     * @param player The player who died
+     */
+    public void playerDied(Player player) {
+        Integer teamId = playerTeams.get(player.getUniqueId());
+        if (teamId != null && deadMembers.add(player.getUniqueId())) {
+            changeAlive(teamId, -1);
+        }
+    }
 
-            // Reset player name
-            player.setDisplayName(player.getName());
-            player.setPlayerListName(player.getName());
+    /**
+     * Count a team member as alive again. Called by the DeathManager.
+     *
+     * @param player The player who was revived
+     */
+    public void playerRevived(Player player) {
+        Integer teamId = playerTeams.get(player.getUniqueId());
+        if (teamId != null && deadMembers.remove(player.getUniqueId())) {
+            changeAlive(teamId, 1);
         }
     }
 
+    /**
+     * Get the number of living players in a team.
+     *
+     * @param teamId The team ID
+     * @return The team's living player count
+     */
+    public int getAliveCount(int teamId) {
+        return aliveCount[teamId];
+    }
+
+    /**
+     * Get the number of teams that still have living players.
+     *
+     * @return The number of teams alive
+     */
+    public int getTeamsAliveCount() {
+        return teamsAlive;
+    }
+
     /**
      * Get the number of living players in each team.
      *
-     * @param deadPlayers List of dead players
      * @return Map of team names to their living player count
      */
-    public Map<String, Integer> getTeamLivingPlayers(List<Player> deadPlayers) {
-        Map<String, Integer> teamLivingPlayers = new HashMap<>();
+    public Map<String, Integer> getTeamLivingPlayers() {
+        Map<String, Integer> teamLivingPlayers = new LinkedHashMap<>();
+        for (int id = 0; id < teamColors.length; id++) {
+            teamLivingPlayers.put(teamColors[id], aliveCount[id]);
+        }
+        return teamLivingPlayers;
+    }
 
-        // Initialize counts
-        for (String teamName : teamMap.keySet()) {
-            teamLivingPlayers.put(teamName, 0);
+    /**
+     * Get a list of teams that still have living players.
+     *
+     * @return List of team names with living players
+     */
+    public List<String> getTeamsWithLivingPlayers() {
+        List<String> teamNames = new ArrayList<>(teamsAlive);
+        for (int id = 0; id < teamColors.length; id++) {
+            if (aliveCount[id] > 0) {
+                teamNames.add(teamColors[id]);
+            }
         }
+        return teamNames;
+    }
 
-        // Count living players in each team
-        for (Map.Entry<Player, String> entry : playerTeams.entrySet()) {
-            Player player = entry.getKey();
-            String teamName = entry.getValue();
+    @Override
+    protected void onEnable() {
+        getScope().runTaskTimer(this::flushNames, 1L, 1L);
+    }
 
-            if (!deadPlayers.contains(player)) {
-                int count = teamLivingPlayers.getOrDefault(teamName, 0);
-                teamLivingPlayers.put(teamName, count + 1);
+    @Override
+    protected void onDisable() {
+        // Nothing is left to spread out once the game is over
+        for (Map.Entry<UUID, Integer> entry : pendingNames.entrySet()) {
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player != null) {
+                applyNames(player, entry.getValue());
             }
         }
-
-        return teamLivingPlayers;
+        pendingNames.clear();
     }
 
     /**
-     * Get a list of teams that still have living players.
+     * Queue a player's display and tab-list names for the color of a team.
+     * A newer update for the same player replaces the queued one.
+     * Until the feature is enabled there is no task to send them, so they are applied right away.
      *
-     * @param deadPlayers List of dead players
-     * @return List of team names with living players
+     * @param player The player
+     * @param teamId The team whose color to show, or -1 for the plain name
      */
-    public List<String> getTeamsWithLivingPlayers(List<Player> deadPlayers) {
-        Map<String, Integer> teamLivingPlayers = getTeamLivingPlayers(deadPlayers);
-        List<String> teamsAlive = new ArrayList<>();
+    private void queueNames(Player player, int teamId) {
+        if (isEnabled()) {
+            pendingNames.put(player.getUniqueId(), teamId);
+        } else {
+            applyNames(player, teamId);
+        }
+    }
 
-        for (Map.Entry<String, Integer> entry : teamLivingPlayers.entrySet()) {
-            if (entry.getValue() > 0) {
-                teamsAlive.add(entry.getKey());
+    /**
+     * Send up to {@link #NAME_UPDATES_PER_TICK} queued name updates.
+     */
+    private void flushNames() {
+        Iterator<Map.Entry<UUID, Integer>> iterator = pendingNames.entrySet().iterator();
+        for (int sent = 0; sent < NAME_UPDATES_PER_TICK && iterator.hasNext(); sent++) {
+            Map.Entry<UUID, Integer> entry = iterator.next();
+            iterator.remove();
+            // Look up the current player object, which changes when the player logs back in
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player != null) {
+                applyNames(player, entry.getValue());
             }
         }
+    }
 
-        return teamsAlive;
+    private void applyNames(Player player, int teamId) {
+        String name = teamId == NO_TEAM
+            ? player.getName()
+            : teams[teamId].getColor() + player.getName() + ChatColor.RESET;
+
+        player.setDisplayName(name);
+        // Only the tab-list name is sent to every client, so skip it when it would not change
+        if (!name.equals(player.getPlayerListName())) {
+            player.setPlayerListName(name);
+        }
+    }
+
+    /**
+     * Show the number of teams left on the sidebar, if the minigame has one.
+     */
+    private void publishTeamsAlive() {
+        Sidebar sidebar = minigame.getSidebar();
+        if (sidebar != null) {
+            sidebar.publish("teams", "Teams left", teamsAlive);
+        }
+    }
+
+    private void changeAlive(int teamId, int delta) {
+        int before = aliveCount[teamId];
+        aliveCount[teamId] = before + delta;
+
+        if (before == 0 && delta > 0) {
+            teamsAlive++;
+            publishTeamsAlive();
+        } else if (before + delta == 0 && before > 0) {
+            teamsAlive--;
+            publishTeamsAlive();
+            if (teamsAlive == 1 && lastTeamCallback != null) {
+                lastTeamCallback.accept(getTeamsWithLivingPlayers().get(0));
+            }
+        }
     }
-}
\ No newline at end of file
+}
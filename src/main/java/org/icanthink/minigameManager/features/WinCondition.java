@@ -0,0 +1,31 @@
+package org.icanthink.minigameManager.features;
+
+import org.bukkit.entity.Player;
+
+import java.util.List;
+
+/**
+ * Decides whether a minigame is over. Conditions are checked by the {@link DeathManager}
+ * each time a player dies or is revived, so they should only read its counters, not scan players.
+ * See {@link WinConditions} for the common ones.
+ */
+@FunctionalInterface
+public interface WinCondition {
+
+    /**
+     * Check the condition after a player's death state changed.
+     *
+     * @param deathManager The death manager holding the game's death state
+     * @param player The player who died or was revived
+     * @return The result if the game is decided, or null to keep playing
+     */
+    Result evaluate(DeathManager deathManager, Player player);
+
+    /**
+     * The outcome of a decided game.
+     *
+     * @param message Short description of how the game was decided
+     * @param winners The players who won, empty if nobody did
+     */
+    record Result(String message, List<Player> winners) {}
+}
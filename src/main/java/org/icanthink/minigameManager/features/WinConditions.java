@@ -0,0 +1,80 @@
+package org.icanthink.minigameManager.features;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Common win conditions for minigames.
+ */
+public final class WinConditions {
+
+    private WinConditions() {
+    }
+
+    /**
+     * The game is over as soon as anyone dies, and nobody wins.
+     *
+     * @return The condition
+     */
+    public static WinCondition firstDeath() {
+        return (deathManager, player) -> deathManager.isPlayerDead(player)
+            ? new WinCondition.Result(player.getName() + " died!", List.of())
+            : null;
+    }
+
+    /**
+     * The game is over when at most one member is left alive, who wins.
+     * Members who are logged out still count as alive.
+     *
+     * @return The condition
+     */
+    public static WinCondition lastPlayerStanding() {
+        return (deathManager, player) -> {
+            if (!deathManager.isPlayerDead(player) || deathManager.getLivingMemberCount() > 1) return null;
+
+            List<UUID> living = deathManager.getLivingMemberIds();
+            if (living.isEmpty()) {
+                return new WinCondition.Result("Nobody survived!", List.of());
+            }
+
+            // The winner may be logged out, in which case there is no player object to hand on
+            Player winner = Bukkit.getPlayer(living.get(0));
+            String name = winner != null ? winner.getName() : Bukkit.getOfflinePlayer(living.get(0)).getName();
+            return new WinCondition.Result(name + " is the last one standing!",
+                winner != null ? List.of(winner) : List.of());
+        };
+    }
+
+    /**
+     * The game is over when only one team has players left alive, whose living players win.
+     * Requires a {@link TeamManager} on the minigame.
+     *
+     * @return The condition
+     */
+    public static WinCondition lastTeamStanding() {
+        return (deathManager, player) -> {
+            TeamManager teamManager = deathManager.getMinigame().getFeature(TeamManager.class);
+            if (teamManager == null || !deathManager.isPlayerDead(player) || teamManager.getTeamsAliveCount() > 1) {
+                return null;
+            }
+
+            List<String> teams = teamManager.getTeamsWithLivingPlayers();
+            if (teams.isEmpty()) {
+                return new WinCondition.Result("No team survived!", List.of());
+            }
+
+            int teamId = teamManager.getTeamId(teams.get(0));
+            List<Player> winners = new ArrayList<>();
+            for (Player living : deathManager.getLivingPlayers()) {
+                if (teamManager.getTeamId(living) == teamId) {
+                    winners.add(living);
+                }
+            }
+            return new WinCondition.Result("Team " + teams.get(0) + " wins!", winners);
+        };
+    }
+}
@@ -3,13 +3,16 @@ package org.icanthink.minigameManager.features;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.WorldCreator;
 import org.bukkit.WorldType;
 import org.bukkit.entity.Player;
 import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.events.GameIndex;
+import org.icanthink.minigameManager.worlds.WorldPool;
+import org.icanthink.minigameManager.worlds.WorldTemplate;
 
-import java.io.File;
-import java.util.UUID;
+import java.io.IOException;
+import java.util.logging.Level;
 
 /**
  * Feature that provides world management functionality for minigames.
@@ -58,27 +61,46 @@ public class WorldManager extends Feature {
 
     /**
      * Create a new world for the minigame.
+     * Without a name, a pre-generated world is taken from the plugin's {@link WorldPool} when one is ready.
      *
      * @param worldName Optional name for the world. If null, a random name will be generated.
      * @param worldType The type of world to create (NORMAL, FLAT, etc.)
      * @return The created world
      */
     public World createWorld(String worldName, WorldType worldType) {
-        // Generate a unique world name if none provided
         if (worldName == null || worldName.isEmpty()) {
-            worldName = "minigame_" + UUID.randomUUID().toString().substring(0, 8);
+            gameWorld = MinigameManager.plugin.getWorldPool().acquire(worldType);
+        } else {
+            gameWorld = WorldPool.createWorld(worldName, worldType);
         }
 
-        // Create the world
-        WorldCreator creator = new WorldCreator(worldName);
-        creator.type(worldType);
-        creator.generateStructures(true);
+        if (gameWorld != null) {
+            // Set the world as the minigame's world
+            minigame.setWorld(gameWorld);
+            GameIndex.bindWorld(gameWorld, minigame);
+        }
+
+        return gameWorld;
+    }
 
-        gameWorld = creator.createWorld();
+    /**
+     * Create the minigame world by cloning a prepared template world folder.
+     * Startup is bound by disk speed instead of world generation.
+     *
+     * @param templateName The name of the template folder in the server's world container
+     * @return The created world, or null if the template could not be cloned
+     */
+    public World createWorldFromTemplate(String templateName) {
+        try {
+            gameWorld = WorldTemplate.cloneNow(templateName, WorldPool.newWorldName());
+        } catch (IOException | IllegalArgumentException e) {
+            MinigameManager.plugin.getLogger().log(Level.WARNING, "Failed to clone world template " + templateName, e);
+            gameWorld = null;
+        }
 
         if (gameWorld != null) {
-            // Set the world as the minigame's world
             minigame.setWorld(gameWorld);
+            GameIndex.bindWorld(gameWorld, minigame);
         }
 
         return gameWorld;
@@ -94,14 +116,14 @@ public class WorldManager extends Feature {
             for (Player player : minigame.getPlayers()) {
                 teleportToLobby(player);
             }
+            GameIndex.unbindWorld(gameWorld);
+            MinigameManager.plugin.getBiomeLocator().forgetWorld(gameWorld);
 
-            // Unload the world first
+            // Unload the world on the main thread, then delete its folder in the background
             if (Bukkit.unloadWorld(gameWorld, false)) {
-                // Delete the world folder
-                File worldFolder = gameWorld.getWorldFolder();
-                if (worldFolder.exists()) {
-                    deleteDirectory(worldFolder);
-                }
+                MinigameManager.plugin.getWorldDeleter().delete(gameWorld.getWorldFolder().toPath());
+            } else {
+                MinigameManager.plugin.getLogger().warning("Could not unload " + gameWorld.getName() + "; its folder was kept");
             }
             gameWorld = null;
         }
@@ -115,20 +137,4 @@ public class WorldManager extends Feature {
     public World getGameWorld() {
         return gameWorld;
     }
-
-    /**
-     * Helper method to recursively delete a directory.
-     *
-     * @param directory The directory to delete
-     * @return true if deletion was successful
-     */
-    private boolean deleteDirectory(File directory) {
-        File[] allContents = directory.listFiles();
-        if (allContents != null) {
-            for (File file : allContents) {
-                deleteDirectory(file);
-            }
-        }
-        return directory.delete();
-    }
-}
\ No newline at end of file
+}
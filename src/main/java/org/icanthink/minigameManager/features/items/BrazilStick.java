@@ -4,6 +4,7 @@ import org.bukkit.Material;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.block.Biome;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -19,6 +20,8 @@ import org.bukkit.event.EventPriority;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.logging.Level;
 
 /**
  * A custom item that sends players to Brazil (nearest jungle biome).
@@ -31,10 +34,12 @@ public class BrazilStick extends CustomItem implements Listener {
         ChatColor.GRAY + "send them to Brazil!"
     );
     private static final Random RANDOM = new Random();
+    private static final Set<Biome> JUNGLE_BIOMES = Set.of(Biome.JUNGLE, Biome.SPARSE_JUNGLE, Biome.BAMBOO_JUNGLE);
+    private static final int MAX_SEARCH_RADIUS = 10000; // Maximum search radius
+    private static final int SAFE_SPOT_RADIUS = 16; // Radius around the jungle spot to find a landing spot in
 
     public BrazilStick(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
         setMetaCustomizer(meta -> {
             meta.addEnchant(Enchantment.UNBREAKING, 1, true);
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
@@ -66,17 +71,47 @@ public class BrazilStick extends CustomItem implements Listener {
         ItemStack item = sender.getInventory().getItemInMainHand();
 
         if (!isInstance(item)) return;
-        if (!minigame.getPlayers().contains(sender) || !minigame.getPlayers().contains(target)) return;
+        if (!minigame.hasPlayer(sender) || !minigame.hasPlayer(target)) return;
 
-        // Find nearest jungle biome in the overworld
-        Location jungleLoc = findNearestJungle(target.getLocation());
-        if (jungleLoc != null) {
-            // Add some random offset to make it more interesting
-            jungleLoc.add(RANDOM.nextInt(100) - 50, 0, RANDOM.nextInt(100) - 50);
+        // Find nearest jungle biome in the overworld without blocking the tick
+        Location origin = toOverworld(target.getLocation());
+        if (origin == null) {
+            sender.sendMessage(ChatColor.RED + "Couldn't find any jungle biomes in the overworld!");
+            return;
+        }
+
+        MinigameManager.plugin.getBiomeLocator()
+            .findNearest(origin, MAX_SEARCH_RADIUS, "jungle", JUNGLE_BIOMES)
+            .whenComplete((jungleLoc, error) -> {
+                if (error != null) {
+                    MinigameManager.plugin.getLogger().log(Level.WARNING, "Jungle search failed", error);
+                }
+                sendToBrazil(sender, target, error == null ? jungleLoc : null);
+            });
+    }
+
+    private void sendToBrazil(Player sender, Player target, Location jungleLoc) {
+        // The game or the players may be gone by the time the search finishes
+        if (!minigame.isRunning() || !target.isOnline() || !minigame.hasPlayer(target)) return;
+
+        if (jungleLoc == null) {
+            sender.sendMessage(ChatColor.RED + "Couldn't find any jungle biomes in the overworld!");
+            return;
+        }
+
+        // Add some random offset to make it more interesting
+        jungleLoc.add(RANDOM.nextInt(100) - 50, 0, RANDOM.nextInt(100) - 50);
+
+        // Find a safe location without loading chunks on the main thread
+        MinigameManager.plugin.getSafeLocationService()
+            .findSurface(jungleLoc, SAFE_SPOT_RADIUS)
+            .thenAccept(safeLoc -> {
+                if (!minigame.isRunning() || !target.isOnline() || !minigame.hasPlayer(target)) return;
+                if (safeLoc == null) {
+                    sender.sendMessage(ChatColor.RED + "Couldn't find a safe spot in Brazil!");
+                    return;
+                }
 
-            // Find a safe location
-            Location safeLoc = findSafeLocation(jungleLoc);
-            if (safeLoc != null) {
                 // Make player temporarily invulnerable
                 target.setInvulnerable(true);
 
@@ -97,18 +132,22 @@ public class BrazilStick extends CustomItem implements Listener {
                         }.runTaskLater(MinigameManager.plugin, 60L); // 3 seconds = 60 ticks
                     }
                 }.runTaskLater(MinigameManager.plugin, 5L); // Small delay before teleport
-            } else {
-                sender.sendMessage(ChatColor.RED + "Couldn't find a safe spot in Brazil!");
-            }
-        } else {
-            sender.sendMessage(ChatColor.RED + "Couldn't find any jungle biomes in the overworld!");
-        }
+            });
     }
 
-    private Location findNearestJungle(Location start) {
-        // Always search in the overworld
-        World overworld = start.getWorld().getEnvironment() == World.Environment.NORMAL
-            ? start.getWorld()
+    /**
+     * Map a location to the overworld, preferring the game's own overworld.
+     *
+     * @param start The location to map
+     * @return The matching overworld location, or null if there is no overworld
+     */
+    private Location toOverworld(Location start) {
+        if (start.getWorld().getEnvironment() == World.Environment.NORMAL) {
+            return start.clone();
+        }
+
+        World overworld = minigame.getWorld() != null && minigame.getWorld().getEnvironment() == World.Environment.NORMAL
+            ? minigame.getWorld()
             : MinigameManager.plugin.getServer().getWorlds().stream()
                 .filter(w -> w.getEnvironment() == World.Environment.NORMAL)
                 .findFirst()
@@ -118,77 +157,7 @@ public class BrazilStick extends CustomItem implements Listener {
             return null;
         }
 
-        // Convert coordinates to overworld if needed
-        Location overworldLoc = start.getWorld().getEnvironment() == World.Environment.NORMAL
-            ? start.clone()
-            : new Location(overworld, start.getX() / 8, start.getY(), start.getZ() / 8);
-
-        // Search in a spiral pattern from the start location
-        int radius = 0;
-        int maxRadius = 10000; // Maximum search radius
-
-        while (radius < maxRadius) {
-            for (int x = -radius; x <= radius; x++) {
-                for (int z = -radius; z <= radius; z++) {
-                    if (Math.abs(x) == radius || Math.abs(z) == radius) {
-                        Location loc = overworldLoc.clone().add(x, 0, z);
-                        if (overworld.getBiome(loc).name().contains("JUNGLE")) {
-                            return loc;
-                        }
-                    }
-                }
-            }
-            radius += 100; // Increase search radius
-        }
-        return null;
-    }
-
-    private Location findSafeLocation(Location loc) {
-        World world = loc.getWorld();
-        int maxAttempts = 10;
-        int attempts = 0;
-
-        while (attempts < maxAttempts) {
-            // Get the highest solid block at this location
-            int y = world.getHighestBlockYAt(loc);
-            Location safeLoc = new Location(world, loc.getX(), y + 1, loc.getZ());
-
-            // Check if the location is safe
-            if (isSafeLocation(safeLoc)) {
-                return safeLoc;
-            }
-
-            // Try a different location
-            loc.add(RANDOM.nextInt(20) - 10, 0, RANDOM.nextInt(20) - 10);
-            attempts++;
-        }
-
-        return null;
-    }
-
-    private boolean isSafeLocation(Location loc) {
-        // Check if the block below is solid
-        if (!loc.getBlock().getRelative(0, -1, 0).getType().isSolid()) {
-            return false;
-        }
-
-        // Check if the block at the location and above are air
-        if (!loc.getBlock().getType().isAir() || !loc.getBlock().getRelative(0, 1, 0).getType().isAir()) {
-            return false;
-        }
-
-        // Check if there are no dangerous blocks nearby
-        for (int x = -1; x <= 1; x++) {
-            for (int y = -1; y <= 1; y++) {
-                for (int z = -1; z <= 1; z++) {
-                    Material type = loc.getBlock().getRelative(x, y, z).getType();
-                    if (type == Material.LAVA || type == Material.FIRE || type == Material.CAMPFIRE) {
-                        return false;
-                    }
-                }
-            }
-        }
-
-        return true;
+        // Convert coordinates to overworld
+        return new Location(overworld, start.getX() / 8, start.getY(), start.getZ() / 8);
     }
-}
\ No newline at end of file
+}
@@ -33,10 +33,11 @@ public class CombatLog extends CustomItem implements Listener {
         ChatColor.GRAY + "grows a tree and saves you!"
     );
     private static final Random RANDOM = new Random();
+    private static final int SKY_Y = 255;
+    private static final int LANDING_RADIUS = 8; // Radius around the save point to find a landing spot in
 
     public CombatLog(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
         setMetaCustomizer(meta -> {
             meta.addEnchant(Enchantment.UNBREAKING, 1, true);
             meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
@@ -74,7 +75,7 @@ public class CombatLog extends CustomItem implements Listener {
         Player player = (Player) event.getEntity();
 
         // Check if player is in the minigame
-        if (!minigame.getPlayers().contains(player)) return;
+        if (!minigame.hasPlayer(player)) return;
 
         // Check if player has the combat log in either hand
         ItemStack mainHand = player.getInventory().getItemInMainHand();
@@ -91,14 +92,28 @@ public class CombatLog extends CustomItem implements Listener {
         // Get the player's location before teleporting
         Location originalLoc = player.getLocation().clone();
 
-        // Teleport player to y=255
-        Location safeLoc = player.getLocation().clone();
-        safeLoc.setY(255);
-        player.teleport(safeLoc);
+        // Lift the player out of danger right away; the chunk they are in is already loaded
+        Location skyLoc = originalLoc.clone();
+        skyLoc.setY(Math.min(SKY_Y, originalLoc.getWorld().getMaxHeight() - 2));
+        player.teleport(skyLoc);
 
         // Add slow falling effect
         player.addPotionEffect(new PotionEffect(PotionEffectType.SLOW_FALLING, 1200, 0)); // 60 seconds
 
+        // Steer the fall over a safe landing spot once one is found
+        MinigameManager.plugin.getSafeLocationService()
+            .findSurface(originalLoc, LANDING_RADIUS)
+            .thenAccept(landing -> {
+                if (landing == null || !player.isOnline() || !minigame.hasPlayer(player)) return;
+                Location current = player.getLocation();
+                if (current.getWorld() != landing.getWorld() || current.getY() <= landing.getY()) return;
+
+                landing.setY(current.getY());
+                landing.setYaw(current.getYaw());
+                landing.setPitch(current.getPitch());
+                player.teleport(landing);
+            });
+
         // Grow a tree at the original location
         new BukkitRunnable() {
             @Override
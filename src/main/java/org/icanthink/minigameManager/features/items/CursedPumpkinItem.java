@@ -10,7 +10,6 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
 
 import java.util.Arrays;
 import java.util.List;
@@ -18,7 +17,6 @@ import java.util.List;
 public class CursedPumpkinItem extends CustomItem implements Listener {
     public CursedPumpkinItem(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
     }
 
     @Override
@@ -5,11 +5,12 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.NamespacedKey;
+import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.features.FeatureScope;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,12 +21,27 @@ import java.util.function.Consumer;
  * Provides common functionality for creating and managing custom items.
  */
 public abstract class CustomItem {
+    /**
+     * Key of the item ID stored on custom item stacks. Same key the plugin instance would give,
+     * but usable before the plugin is loaded (e.g. in benchmarks).
+     */
+    public static final NamespacedKey ITEM_ID_KEY = new NamespacedKey("minigamemanager", "custom_item_id");
+
     protected final Minigame minigame;
     protected final String name;
     protected final Material material;
     protected final List<String> lore;
     private Consumer<ItemMeta> metaCustomizer;
-    private static final NamespacedKey ITEM_ID_KEY = new NamespacedKey(MinigameManager.plugin, "custom_item_id");
+    private FeatureScope scope;
+    private final String itemId;
+
+    // Item IDs only depend on the class, so hash each class name once
+    private static final ClassValue<UUID> ITEM_IDS = new ClassValue<>() {
+        @Override
+        protected UUID computeValue(Class<?> type) {
+            return UUID.nameUUIDFromBytes(type.getName().getBytes());
+        }
+    };
 
     /**
      * Create a new custom item.
@@ -34,6 +50,7 @@ public abstract class CustomItem {
      */
     public CustomItem(Minigame minigame) {
         this.minigame = minigame;
+        this.itemId = getItemId(getClass()).toString();
         this.name = getName();
         this.material = getMaterial();
         this.lore = getLore();
@@ -72,7 +89,7 @@ public abstract class CustomItem {
         if (meta != null) {
             meta.setDisplayName(name);
             meta.setLore(lore);
-            meta.getPersistentDataContainer().set(ITEM_ID_KEY, PersistentDataType.STRING, getItemId().toString());
+            meta.getPersistentDataContainer().set(ITEM_ID_KEY, PersistentDataType.STRING, itemId);
             if (metaCustomizer != null) {
                 metaCustomizer.accept(meta);
             }
@@ -90,9 +107,32 @@ public abstract class CustomItem {
      * @return The item's UUID
      */
     public UUID getItemId() {
+        return getItemId(getClass());
+    }
+
+    /**
+     * Get the unique ID shared by all instances of a custom item class.
+     *
+     * @param itemClass The custom item class
+     * @return The item's UUID
+     */
+    public static UUID getItemId(Class<? extends CustomItem> itemClass) {
         // Use the class name as a namespace to generate a deterministic UUID
         // This ensures all instances of the same item type have the same ID
-        return UUID.nameUUIDFromBytes(getClass().getName().getBytes());
+        return ITEM_IDS.get(itemClass);
+    }
+
+    /**
+     * Read the custom item ID stored on an ItemStack.
+     * Reads through Paper's read-only data container view, so the item meta is not cloned.
+     *
+     * @param itemStack The ItemStack to read
+     * @return The stored item ID, or null if the stack is not a custom item
+     */
+    public static String readItemId(ItemStack itemStack) {
+        if (itemStack == null || !itemStack.hasItemMeta()) return null;
+
+        return itemStack.getPersistentDataContainer().get(ITEM_ID_KEY, PersistentDataType.STRING);
     }
 
     /**
@@ -102,12 +142,7 @@ public abstract class CustomItem {
      * @return true if the ItemStack is an instance of this custom item
      */
     public boolean isInstance(ItemStack itemStack) {
-        if (itemStack == null || !itemStack.hasItemMeta()) return false;
-
-        String storedId = itemStack.getItemMeta().getPersistentDataContainer()
-            .get(ITEM_ID_KEY, PersistentDataType.STRING);
-
-        return storedId != null && storedId.equals(getItemId().toString());
+        return itemId.equals(readItemId(itemStack));
     }
 
     /**
@@ -117,4 +152,57 @@ public abstract class CustomItem {
     public void setMetaCustomizer(Consumer<ItemMeta> customizer) {
         this.metaCustomizer = customizer;
     }
-}
\ No newline at end of file
+
+    /**
+     * Activate this item in a running minigame. Called by the CustomItemManager.
+     * Items that are listeners are registered through the given scope.
+     *
+     * @param scope The item's own scope, owned by its class so its tasks are profiled separately
+     */
+    public final void enable(FeatureScope scope) {
+        if (this.scope != null) return;
+        this.scope = scope;
+
+        if (this instanceof Listener listener) {
+            scope.registerListener(listener);
+        }
+        onEnable();
+    }
+
+    /**
+     * Deactivate this item and release its scope. Called by the CustomItemManager when the minigame ends.
+     */
+    public final void disable() {
+        if (scope == null) return;
+
+        try {
+            onDisable();
+        } finally {
+            scope.release();
+            scope = null;
+        }
+    }
+
+    /**
+     * Get the scope this item is enabled in.
+     *
+     * @return The scope, or null if the item is not enabled
+     */
+    protected FeatureScope getScope() {
+        return scope;
+    }
+
+    /**
+     * Called when the item is enabled.
+     * Override this method to schedule tasks through {@link #getScope()}.
+     */
+    protected void onEnable() {
+    }
+
+    /**
+     * Called when the item is disabled.
+     * Override this method to undo effects applied to players.
+     */
+    protected void onDisable() {
+    }
+}
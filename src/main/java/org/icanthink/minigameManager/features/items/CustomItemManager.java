@@ -9,11 +9,14 @@ import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 import org.icanthink.minigameManager.features.Feature;
+import org.icanthink.minigameManager.features.FeatureScope;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Feature that manages custom items in minigames.
@@ -21,29 +24,59 @@ import java.util.List;
  */
 public class CustomItemManager extends Feature implements Listener {
     protected final List<CustomItem> customItems;
+    private final Map<String, CustomItem> itemsById;
 
     public CustomItemManager(Minigame minigame) {
         super(minigame);
         this.customItems = new ArrayList<>();
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
+        this.itemsById = new HashMap<>();
     }
 
     /**
      * Register a custom item with this manager.
+     * Only one instance of each item class is kept; registering another one has no effect.
      *
      * @param item The custom item to register
+     * @return true if the item was registered, false if its class was already registered
      */
-    public void registerItem(CustomItem item) {
+    public boolean registerItem(CustomItem item) {
+        if (itemsById.putIfAbsent(item.getItemId().toString(), item) != null) {
+            return false;
+        }
+
         customItems.add(item);
+        if (isEnabled()) {
+            item.enable(new FeatureScope(minigame, item.getClass()));
+        }
+        return true;
+    }
+
+    /**
+     * Get the registered instance of a custom item class, creating and registering it if needed.
+     *
+     * @param itemClass The class of the custom item
+     * @return The registered item instance
+     */
+    public <T extends CustomItem> T getOrCreateItem(Class<T> itemClass) {
+        CustomItem existing = itemsById.get(CustomItem.getItemId(itemClass).toString());
+        if (existing != null) {
+            return itemClass.cast(existing);
+        }
+
+        try {
+            T item = itemClass.getDeclaredConstructor(Minigame.class).newInstance(minigame);
+            registerItem(item);
+            return item;
+        } catch (Exception e) { throw new RuntimeException("Failed to create custom item instance", e); }
     }
 
     /**
      * Get all registered custom items.
      *
-     * @return List of registered custom items
+     * @return Unmodifiable list of registered custom items
      */
     public List<CustomItem> getItems() {
-        return customItems;
+        return Collections.unmodifiableList(customItems);
     }
 
     /**
@@ -53,14 +86,8 @@ public class CustomItemManager extends Feature implements Listener {
      * @return The matching CustomItem, or null if none found
      */
     public CustomItem getCustomItem(ItemStack itemStack) {
-        if (itemStack == null) return null;
-
-        for (CustomItem item : customItems) {
-            if (item.isInstance(itemStack)) {
-                return item;
-            }
-        }
-        return null;
+        String itemId = CustomItem.readItemId(itemStack);
+        return itemId == null ? null : itemsById.get(itemId);
     }
 
     /**
@@ -70,12 +97,8 @@ public class CustomItemManager extends Feature implements Listener {
      * @return The created ItemStack, or null if the item class isn't registered
      */
     public ItemStack createItem(Class<? extends CustomItem> itemClass) {
-        for (CustomItem item : customItems) {
-            if (item.getClass() == itemClass) {
-                return item.createItem();
-            }
-        }
-        return null;
+        CustomItem item = itemsById.get(CustomItem.getItemId(itemClass).toString());
+        return item == null ? null : item.createItem();
     }
 
     /**
@@ -87,16 +110,12 @@ public class CustomItemManager extends Feature implements Listener {
      * @return true if the item was given successfully, false if the player's inventory is full
      */
     public <T extends CustomItem> boolean giveItem(Player player, Class<T> itemClass) {
-        if (!minigame.getPlayers().contains(player)) {
+        if (!minigame.hasPlayer(player)) {
             return false;
         }
 
-        try {
-            T item = itemClass.getDeclaredConstructor(Minigame.class).newInstance(minigame);
-            customItems.add(item);
-            ItemStack itemStack = item.createItem();
-            return player.getInventory().addItem(itemStack).isEmpty();
-        } catch (Exception e) { throw new RuntimeException("Failed to create custom item instance", e); }
+        ItemStack itemStack = getOrCreateItem(itemClass).createItem();
+        return player.getInventory().addItem(itemStack).isEmpty();
     }
 
     /**
@@ -110,10 +129,24 @@ public class CustomItemManager extends Feature implements Listener {
         }
     }
 
+    @Override
+    protected void onEnable() {
+        for (CustomItem item : customItems) {
+            item.enable(new FeatureScope(minigame, item.getClass()));
+        }
+    }
+
+    @Override
+    protected void onDisable() {
+        for (CustomItem item : customItems) {
+            item.disable();
+        }
+    }
+
     @EventHandler
     public void onPlayerInteract(PlayerInteractEvent event) {
         // Skip if player not in minigame
-        if (!minigame.getPlayers().contains(event.getPlayer())) return;
+        if (!minigame.hasPlayer(event.getPlayer())) return;
 
         // Each item now handles its own events through their own Listener implementations
     }
@@ -121,7 +154,7 @@ public class CustomItemManager extends Feature implements Listener {
     @EventHandler
     public void onBlockPlace(BlockPlaceEvent event) {
         // Skip if player not in minigame
-        if (!minigame.getPlayers().contains(event.getPlayer())) return;
+        if (!minigame.hasPlayer(event.getPlayer())) return;
 
         // Each item now handles its own events through their own Listener implementations
     }
@@ -130,7 +163,7 @@ public class CustomItemManager extends Feature implements Listener {
     public void onInventoryClick(InventoryClickEvent event) {
         // Skip if not a player or player not in minigame
         if (!(event.getWhoClicked() instanceof org.bukkit.entity.Player)) return;
-        if (!minigame.getPlayers().contains((org.bukkit.entity.Player) event.getWhoClicked())) return;
+        if (!minigame.hasPlayer(event.getWhoClicked().getUniqueId())) return;
 
         // Each item now handles its own events through their own Listener implementations
     }
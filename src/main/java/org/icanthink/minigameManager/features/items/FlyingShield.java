@@ -12,14 +12,13 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerItemHeldEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.event.player.PlayerItemBreakEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.features.AbilityTicker;
 
 import java.util.Arrays;
 import java.util.List;
@@ -28,14 +27,15 @@ import java.util.Map;
 import java.util.UUID;
 
 public class FlyingShield extends CustomItem implements Listener {
-    private static final Map<UUID, BukkitRunnable> levitationTasks = new HashMap<>();
-    private static final Map<UUID, Boolean> wasBlocking = new HashMap<>();
-    private static final Map<UUID, Long> usedLevitationTime = new HashMap<>();
+    private static final Map<UUID, AbilityTicker.Handle> levitationTasks = new HashMap<>();
+    private static final Map<UUID, LevitationState> levitationStates = new HashMap<>();
     private static final long MAX_LEVITATION_TIME = 10000; // 10 seconds in milliseconds
+    private static final int ACTION_BAR_REFRESH_TICKS = 20;
+    private static final PotionEffect LEVITATION = new PotionEffect(PotionEffectType.LEVITATION, 5, 2, false, false);
+    private static final PotionEffect SLOW_FALLING = new PotionEffect(PotionEffectType.SLOW_FALLING, 5, 0, false, false);
 
     public FlyingShield(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
         setMetaCustomizer(meta -> {
             meta.setUnbreakable(true);
             meta.addEnchant(Enchantment.UNBREAKING, 1, true);
@@ -63,91 +63,128 @@ public class FlyingShield extends CustomItem implements Listener {
     }
 
     private void startLevitationTask(Player player) {
-        // Cancel any existing task for this player
-        stopLevitationTask(player);
+        // Keep the running ability if there is one
+        AbilityTicker.Handle existing = levitationTasks.get(player.getUniqueId());
+        if (existing != null && existing.isActive()) return;
+
+        LevitationState state = levitationStates.computeIfAbsent(player.getUniqueId(), id -> new LevitationState());
+        Levitation levitation = new Levitation(player, state);
+        levitation.handle = minigame.getAbilityTicker().add(levitation);
+        if (levitation.handle.isActive()) {
+            levitationTasks.put(player.getUniqueId(), levitation.handle);
+        }
+    }
 
-        // Initialize used time if not set
-        if (!usedLevitationTime.containsKey(player.getUniqueId())) {
-            usedLevitationTime.put(player.getUniqueId(), 0L);
+    private void stopLevitationTask(Player player) {
+        AbilityTicker.Handle handle = levitationTasks.remove(player.getUniqueId());
+        if (handle != null) {
+            handle.cancel();
         }
+    }
 
-        // Create new task
-        BukkitRunnable task = new BukkitRunnable() {
-            private long lastTickTime = System.currentTimeMillis();
-
-            @Override
-            public void run() {
-                // Check if player still has shield
-                ItemStack shield = player.getInventory().getItemInMainHand();
-                ItemStack offhand = player.getInventory().getItemInOffHand();
-                if (!isInstance(shield) && !isInstance(offhand)) {
-                    stopLevitationTask(player);
-                    return;
-                }
+    /**
+     * Levitation time used by a player, kept across shield swaps until they land.
+     */
+    private static final class LevitationState {
+        private long usedTime;
+        private boolean wasBlocking;
+    }
 
-                boolean isBlocking = player.isBlocking();
-                boolean wasBlockingBefore = wasBlocking.getOrDefault(player.getUniqueId(), false);
+    /**
+     * Applies levitation every tick while the player blocks with the shield.
+     */
+    private final class Levitation implements AbilityTicker.Ability {
+        private final Player player;
+        private final LevitationState state;
+        private AbilityTicker.Handle handle;
+        private long lastTickTime = System.currentTimeMillis();
+        private long shownSeconds = -1;
+        private int ticksSinceShown;
+
+        private Levitation(Player player, LevitationState state) {
+            this.player = player;
+            this.state = state;
+        }
 
-                // Handle blocking state changes
-                if (!isBlocking && wasBlockingBefore) {
-                    // Stopped blocking, remove effects
-                    player.removePotionEffect(PotionEffectType.LEVITATION);
-                    player.removePotionEffect(PotionEffectType.SLOW_FALLING);
-                }
+        @Override
+        public boolean tick() {
+            // Check if player still has shield
+            ItemStack shield = player.getInventory().getItemInMainHand();
+            ItemStack offhand = player.getInventory().getItemInOffHand();
+            if (!isInstance(shield) && !isInstance(offhand)) {
+                return false;
+            }
 
-                // Update time tracking
-                long currentTime = System.currentTimeMillis();
-                if (isBlocking) {
-                    // Add time since last tick if blocking
-                    long deltaTime = currentTime - lastTickTime;
-                    long totalUsed = usedLevitationTime.get(player.getUniqueId()) + deltaTime;
-                    usedLevitationTime.put(player.getUniqueId(), totalUsed);
-
-                    // Apply effects based on time used
-                    if (totalUsed < MAX_LEVITATION_TIME) {
-                        player.addPotionEffect(new PotionEffect(PotionEffectType.LEVITATION, 5, 2, false, false));
-
-                        // Show remaining time
-                        long timeLeft = MAX_LEVITATION_TIME - totalUsed;
-                        double secondsLeft = Math.ceil(timeLeft / 1000.0);
-                        player.spigot().sendMessage(ChatMessageType.ACTION_BAR,
-                            new TextComponent(String.format("§eLevitation: %.0f seconds", secondsLeft)));
-                    } else {
-                        player.addPotionEffect(new PotionEffect(PotionEffectType.SLOW_FALLING, 5, 0, false, false));
-                        player.spigot().sendMessage(ChatMessageType.ACTION_BAR,
-                            new TextComponent("§cLevitation expired!"));
-                    }
-                }
+            boolean isBlocking = player.isBlocking();
 
-                // Update states for next tick
-                lastTickTime = currentTime;
-                wasBlocking.put(player.getUniqueId(), isBlocking);
+            // Handle blocking state changes
+            if (!isBlocking && state.wasBlocking) {
+                // Stopped blocking, remove effects
+                player.removePotionEffect(PotionEffectType.LEVITATION);
+                player.removePotionEffect(PotionEffectType.SLOW_FALLING);
             }
-        };
 
-        // Run task every tick to maintain smooth flight
-        task.runTaskTimer(MinigameManager.plugin, 0L, 1L);
-        levitationTasks.put(player.getUniqueId(), task);
-        wasBlocking.put(player.getUniqueId(), false);
-    }
+            // Update time tracking
+            long currentTime = System.currentTimeMillis();
+            if (isBlocking) {
+                // Add time since last tick if blocking
+                state.usedTime += currentTime - lastTickTime;
+
+                // Apply effects based on time used
+                if (state.usedTime < MAX_LEVITATION_TIME) {
+                    player.addPotionEffect(LEVITATION);
+
+                    // Show remaining time
+                    long secondsLeft = (long) Math.ceil((MAX_LEVITATION_TIME - state.usedTime) / 1000.0);
+                    showActionBar(secondsLeft, "§eLevitation: " + secondsLeft + " seconds");
+                } else {
+                    player.addPotionEffect(SLOW_FALLING);
+                    showActionBar(0, "§cLevitation expired!");
+                }
+            }
 
-    private void stopLevitationTask(Player player) {
-        BukkitRunnable task = levitationTasks.remove(player.getUniqueId());
-        if (task != null) {
-            task.cancel();
+            // Update states for next tick
+            lastTickTime = currentTime;
+            state.wasBlocking = isBlocking;
+            return true;
+        }
+
+        @Override
+        public void onRemove() {
+            levitationTasks.remove(player.getUniqueId(), handle);
             player.removePotionEffect(PotionEffectType.LEVITATION);
             player.removePotionEffect(PotionEffectType.SLOW_FALLING);
+            state.wasBlocking = false;
+        }
+
+        /**
+         * Send the action bar when its value changes, and often enough to keep it from fading.
+         */
+        private void showActionBar(long seconds, String message) {
+            if (seconds == shownSeconds && ++ticksSinceShown < ACTION_BAR_REFRESH_TICKS) return;
+            shownSeconds = seconds;
+            ticksSinceShown = 0;
+            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(message));
+        }
+    }
+
+    @Override
+    protected void onDisable() {
+        for (Player player : minigame.getPlayers()) {
+            stopLevitationTask(player);
+            levitationStates.remove(player.getUniqueId());
         }
-        wasBlocking.remove(player.getUniqueId());
     }
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
+        LevitationState state = levitationStates.get(event.getPlayer().getUniqueId());
+        if (state == null || state.usedTime == 0) return;
+
         // Check if player has landed (block below feet is solid)
         if (event.getTo().getBlock().getRelative(0, -1, 0).getType().isSolid()) {
             // Reset levitation time when landing
-            usedLevitationTime.put(player.getUniqueId(), 0L);
+            state.usedTime = 0;
         }
     }
 
@@ -190,7 +227,7 @@ public class FlyingShield extends CustomItem implements Listener {
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
         stopLevitationTask(event.getPlayer());
-        usedLevitationTime.remove(event.getPlayer().getUniqueId());
+        levitationStates.remove(event.getPlayer().getUniqueId());
     }
 
     @EventHandler
@@ -7,7 +7,6 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
 
 import java.util.Arrays;
 import java.util.List;
@@ -15,7 +14,6 @@ import java.util.List;
 public class KnockbackStick extends CustomItem implements Listener {
     public KnockbackStick(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
         setMetaCustomizer(meta -> meta.addEnchant(Enchantment.KNOCKBACK, 10, true));
     }
 
@@ -12,14 +12,13 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerToggleSneakEvent;
 import org.bukkit.event.player.PlayerItemHeldEvent;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.event.player.PlayerItemBreakEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.block.Action;
 import org.bukkit.attribute.Attribute;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.features.AbilityTicker;
 
 import java.util.Arrays;
 import java.util.List;
@@ -28,12 +27,12 @@ import java.util.Map;
 import java.util.UUID;
 
 public class Shoes extends CustomItem implements Listener {
-    private static final Map<UUID, BukkitRunnable> speedTasks = new HashMap<>();
-    private static final Map<UUID, Boolean> isBlocking = new HashMap<>();
+    private static final Map<UUID, AbilityTicker.Handle> speedTasks = new HashMap<>();
+    private static final PotionEffect SPEED = new PotionEffect(PotionEffectType.SPEED, 40, 39, false, false);
+    private static final PotionEffect BOOSTED_SPEED = new PotionEffect(PotionEffectType.SPEED, 40, 99, false, false);
 
     public Shoes(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
         setMetaCustomizer(meta -> {
             meta.setUnbreakable(true);
             meta.addEnchant(Enchantment.BINDING_CURSE, 1, true);
@@ -59,45 +58,65 @@ public class Shoes extends CustomItem implements Listener {
     }
 
     private void startSpeedTask(Player player) {
-        // Cancel any existing task for this player
-        stopSpeedTask(player);
-
-        // Create new task
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                // Check if player still has shoes equipped
-                ItemStack boots = player.getInventory().getBoots();
-                if (boots == null || !isInstance(boots)) {
-                    stopSpeedTask(player);
-                    return;
-                }
-                // Reapply speed effect and step height
-                player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, 40, 39, false, false));
-                player.getAttribute(Attribute.STEP_HEIGHT).setBaseValue(2.0);
-
-                // Check if player is blocking with a shield
-                isBlocking.put(player.getUniqueId(), player.isBlocking());
-
-                // If sneaking or blocking, give additional speed to counteract slowdown
-                if (player.isSneaking() || isBlocking.getOrDefault(player.getUniqueId(), false)) {
-                    player.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, 40, 99, false, false));
-                }
-            }
-        };
-
-        // Run task more frequently to catch shield changes
-        task.runTaskTimer(MinigameManager.plugin, 0L, 1L);
-        speedTasks.put(player.getUniqueId(), task);
+        // Keep the running ability if there is one; it picks up sneak and shield changes itself
+        AbilityTicker.Handle existing = speedTasks.get(player.getUniqueId());
+        if (existing != null && existing.isActive()) return;
+
+        Speed speed = new Speed(player);
+        speed.handle = minigame.getAbilityTicker().add(speed);
+        if (speed.handle.isActive()) {
+            speedTasks.put(player.getUniqueId(), speed.handle);
+        }
     }
 
     private void stopSpeedTask(Player player) {
-        BukkitRunnable task = speedTasks.remove(player.getUniqueId());
-        if (task != null) {
-            task.cancel();
+        AbilityTicker.Handle handle = speedTasks.remove(player.getUniqueId());
+        if (handle != null) {
+            handle.cancel();
+        }
+    }
+
+    /**
+     * Reapplies speed and step height every tick while the shoes are worn.
+     */
+    private final class Speed implements AbilityTicker.Ability {
+        private final Player player;
+        private AbilityTicker.Handle handle;
+
+        private Speed(Player player) {
+            this.player = player;
+        }
+
+        @Override
+        public boolean tick() {
+            // Check if player still has shoes equipped
+            ItemStack boots = player.getInventory().getBoots();
+            if (boots == null || !isInstance(boots)) {
+                return false;
+            }
+            // Reapply speed effect and step height
+            player.addPotionEffect(SPEED);
+            player.getAttribute(Attribute.STEP_HEIGHT).setBaseValue(2.0);
+
+            // If sneaking or blocking, give additional speed to counteract slowdown
+            if (player.isSneaking() || player.isBlocking()) {
+                player.addPotionEffect(BOOSTED_SPEED);
+            }
+            return true;
+        }
+
+        @Override
+        public void onRemove() {
+            speedTasks.remove(player.getUniqueId(), handle);
             player.getAttribute(Attribute.STEP_HEIGHT).setBaseValue(0.6);
         }
-        isBlocking.remove(player.getUniqueId());
+    }
+
+    @Override
+    protected void onDisable() {
+        for (Player player : minigame.getPlayers()) {
+            stopSpeedTask(player);
+        }
     }
 
     @EventHandler
@@ -115,16 +134,13 @@ public class Shoes extends CustomItem implements Listener {
         if (!isInstance(event.getItem())) return;
 
         // Check after a tick to ensure boots are equipped
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                Player player = event.getPlayer();
-                ItemStack boots = player.getInventory().getBoots();
-                if (boots != null && isInstance(boots)) {
-                    startSpeedTask(player);
-                }
+        getScope().runTaskLater(() -> {
+            Player player = event.getPlayer();
+            ItemStack boots = player.getInventory().getBoots();
+            if (boots != null && isInstance(boots)) {
+                startSpeedTask(player);
             }
-        }.runTaskLater(MinigameManager.plugin, 1L);
+        }, 1L);
     }
 
     @EventHandler
@@ -132,7 +148,7 @@ public class Shoes extends CustomItem implements Listener {
         Player player = event.getPlayer();
         ItemStack boots = player.getInventory().getBoots();
         if (boots != null && isInstance(boots)) {
-            startSpeedTask(player); // Update speed when switching items
+            startSpeedTask(player);
         }
     }
 
@@ -153,7 +169,7 @@ public class Shoes extends CustomItem implements Listener {
         Player player = event.getPlayer();
         ItemStack boots = player.getInventory().getBoots();
         if (boots != null && isInstance(boots)) {
-            startSpeedTask(player); // This will update the speed effect based on sneak state
+            startSpeedTask(player);
         }
     }
 }
\ No newline at end of file
@@ -11,7 +11,6 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
 import org.icanthink.minigameManager.Minigame;
-import org.icanthink.minigameManager.MinigameManager;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -31,7 +30,6 @@ public class ShuffleSword extends CustomItem implements Listener {
 
     public ShuffleSword(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package org.icanthink.minigameManager.features.items;
 
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
@@ -31,11 +32,13 @@ public class TeleportRod extends CustomItem implements Listener {
         "§7Cooldown: 5 seconds"
     );
     private static final long COOLDOWN_MS = 5000; // 5 seconds in milliseconds
+    private static final int TELEPORT_DISTANCE = 10;
+    private static final int LANDING_RADIUS = 2; // Blocks around the target to look for a landing spot
+    private static final int LANDING_HEIGHT = 3; // Blocks above or below the target to look for a landing spot
     private final Map<UUID, Long> lastUsage = new HashMap<>();
 
     public TeleportRod(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
         // Make the rod look enchanted
         setMetaCustomizer(meta -> {
             meta.addEnchant(Enchantment.UNBREAKING, 1, true);
@@ -83,11 +86,23 @@ public class TeleportRod extends CustomItem implements Listener {
         // Get the direction the player is looking
         Vector direction = player.getLocation().getDirection();
 
-        // Teleport the player 10 blocks in that direction
-        player.teleport(player.getLocation().add(direction.multiply(10)));
+        // Aim 10 blocks in that direction and land on the nearest safe spot around it
+        Location target = player.getLocation().add(direction.multiply(TELEPORT_DISTANCE));
+        MinigameManager.plugin.getSafeLocationService()
+            .findNear(target, LANDING_RADIUS, LANDING_HEIGHT)
+            .thenAccept(landing -> {
+                if (!player.isOnline()) return;
+                if (landing == null) {
+                    player.sendMessage(ChatColor.RED + "There is nowhere safe to teleport to!");
+                    lastUsage.remove(playerId);
+                    return;
+                }
 
-        // Play a sound effect
-        player.playSound(player.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
+                player.teleport(landing);
+
+                // Play a sound effect
+                player.playSound(player.getLocation(), Sound.ENTITY_ENDERMAN_TELEPORT, 1.0f, 1.0f);
+            });
 
         // Update last usage time
         lastUsage.put(playerId, currentTime);
@@ -0,0 +1,262 @@
+package org.icanthink.minigameManager.features.mobs;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Updates the boss bars of all custom mobs in a minigame in one pass.
+ * Players are bucketed by chunk section once per pass, so each mob only looks at players in
+ * the sections around it. Only viewer changes and health changes are sent to clients.
+ */
+public class BossBarService {
+    public static final long UPDATE_INTERVAL = 10L; // Ticks between passes
+    private static final double BOSS_BAR_RANGE = 50.0; // Range in blocks to show boss bar
+    private static final double RANGE_SQUARED = BOSS_BAR_RANGE * BOSS_BAR_RANGE;
+    private static final int SECTION_RADIUS = (int) Math.ceil(BOSS_BAR_RANGE / 16.0);
+    private static final int SECTIONS_PER_LOOKUP = (2 * SECTION_RADIUS + 1) * (2 * SECTION_RADIUS + 1) * (2 * SECTION_RADIUS + 1);
+
+    private final Map<CustomMob, Entry> entries = new IdentityHashMap<>();
+    private final Map<World, Map<Long, List<Player>>> buckets = new HashMap<>();
+    private final ArrayDeque<List<Player>> freeLists = new ArrayDeque<>();
+    private final Location mobLocation = new Location(null, 0, 0, 0);
+    private final Location playerLocation = new Location(null, 0, 0, 0);
+    private long pass;
+
+    /**
+     * Start showing a mob's boss bar to nearby players.
+     *
+     * @param mob The custom mob
+     * @param entity The entity the mob was applied to
+     */
+    public void register(CustomMob mob, LivingEntity entity) {
+        if (mob.getBossBar() == null) return;
+        entries.put(mob, new Entry(mob, entity));
+    }
+
+    /**
+     * Stop updating a mob's boss bar and hide it from its viewers.
+     *
+     * @param mob The custom mob
+     */
+    public void unregister(CustomMob mob) {
+        Entry entry = entries.remove(mob);
+        if (entry != null) {
+            entry.hideAll();
+        }
+    }
+
+    /**
+     * Hide every boss bar and forget all mobs.
+     */
+    public void clear() {
+        for (Entry entry : entries.values()) {
+            entry.hideAll();
+        }
+        entries.clear();
+        recycleBuckets();
+    }
+
+    /**
+     * Get the number of mobs with a boss bar.
+     *
+     * @return The registered mob count
+     */
+    public int getMobCount() {
+        return entries.size();
+    }
+
+    /**
+     * Run one update pass over all registered mobs.
+     */
+    public void update() {
+        if (entries.isEmpty()) return;
+        pass++;
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            BossBar bossBar = entry.mob.getBossBar();
+            if (bossBar == null) {
+                // Boss bar was cleaned up by the mob itself
+                iterator.remove();
+                continue;
+            }
+
+            LivingEntity entity = entry.resolveEntity();
+            if (entity == null) {
+                // Not loaded; hide until it is back
+                entry.hideAll();
+                continue;
+            }
+
+            entry.updateProgress(bossBar, entity);
+            entry.updateViewers(bossBar, entity.getLocation(mobLocation), getBuckets(entity.getWorld()));
+        }
+
+        recycleBuckets();
+    }
+
+    /**
+     * Get the players of a world bucketed by chunk section, building the buckets on first use in a pass.
+     */
+    private Map<Long, List<Player>> getBuckets(World world) {
+        Map<Long, List<Player>> worldBuckets = buckets.get(world);
+        if (worldBuckets != null) return worldBuckets;
+
+        worldBuckets = new HashMap<>();
+        for (Player player : world.getPlayers()) {
+            Location location = player.getLocation(playerLocation);
+            long key = sectionKey(location.getBlockX() >> 4, location.getBlockY() >> 4, location.getBlockZ() >> 4);
+            List<Player> bucket = worldBuckets.get(key);
+            if (bucket == null) {
+                bucket = freeLists.isEmpty() ? new ArrayList<>() : freeLists.pop();
+                worldBuckets.put(key, bucket);
+            }
+            bucket.add(player);
+        }
+        buckets.put(world, worldBuckets);
+        return worldBuckets;
+    }
+
+    private void recycleBuckets() {
+        for (Map<Long, List<Player>> worldBuckets : buckets.values()) {
+            for (List<Player> bucket : worldBuckets.values()) {
+                bucket.clear();
+                freeLists.push(bucket);
+            }
+        }
+        buckets.clear();
+    }
+
+    private static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        return ((long) sectionX & 0x3FFFFF) << 42 | ((long) sectionZ & 0x3FFFFF) << 20 | ((long) sectionY & 0xFFFFF);
+    }
+
+    /**
+     * Boss bar state of one mob: its entity, last shown progress and current viewers.
+     */
+    private final class Entry {
+        private final CustomMob mob;
+        private final UUID entityId;
+        private LivingEntity entity;
+        private double progress = -1;
+        private final Map<UUID, Viewer> viewers = new HashMap<>();
+
+        private Entry(CustomMob mob, LivingEntity entity) {
+            this.mob = mob;
+            this.entityId = entity.getUniqueId();
+            this.entity = entity;
+        }
+
+        private LivingEntity resolveEntity() {
+            if (entity == null || !entity.isValid()) {
+                // Entity objects are replaced when their chunk reloads
+                Entity found = Bukkit.getEntity(entityId);
+                entity = found instanceof LivingEntity living && living.isValid() ? living : null;
+            }
+            return entity;
+        }
+
+        private void updateProgress(BossBar bossBar, LivingEntity entity) {
+            double healthPercent = Math.max(0.0, Math.min(1.0, entity.getHealth() / entity.getMaxHealth()));
+            if (healthPercent != progress) {
+                progress = healthPercent;
+                bossBar.setProgress(healthPercent);
+            }
+        }
+
+        private void updateViewers(BossBar bossBar, Location center, Map<Long, List<Player>> worldBuckets) {
+            double x = center.getX();
+            double y = center.getY();
+            double z = center.getZ();
+            int sectionX = center.getBlockX() >> 4;
+            int sectionY = center.getBlockY() >> 4;
+            int sectionZ = center.getBlockZ() >> 4;
+
+            if (worldBuckets.size() < SECTIONS_PER_LOOKUP) {
+                // Fewer occupied sections than we would probe, so walk them instead
+                for (List<Player> bucket : worldBuckets.values()) {
+                    markInRange(bossBar, bucket, x, y, z);
+                }
+            } else {
+                for (int dx = -SECTION_RADIUS; dx <= SECTION_RADIUS; dx++) {
+                    for (int dy = -SECTION_RADIUS; dy <= SECTION_RADIUS; dy++) {
+                        for (int dz = -SECTION_RADIUS; dz <= SECTION_RADIUS; dz++) {
+                            List<Player> bucket = worldBuckets.get(sectionKey(sectionX + dx, sectionY + dy, sectionZ + dz));
+                            if (bucket != null) {
+                                markInRange(bossBar, bucket, x, y, z);
+                            }
+                        }
+                    }
+                }
+            }
+
+            // Remove players that were not seen this pass
+            Iterator<Viewer> iterator = viewers.values().iterator();
+            while (iterator.hasNext()) {
+                Viewer viewer = iterator.next();
+                if (viewer.seenPass != pass) {
+                    bossBar.removePlayer(viewer.player);
+                    iterator.remove();
+                }
+            }
+        }
+
+        private void markInRange(BossBar bossBar, List<Player> bucket, double x, double y, double z) {
+            for (int i = 0; i < bucket.size(); i++) {
+                Player player = bucket.get(i);
+                Location location = player.getLocation(playerLocation);
+                double dx = location.getX() - x;
+                double dy = location.getY() - y;
+                double dz = location.getZ() - z;
+                if (dx * dx + dy * dy + dz * dz > RANGE_SQUARED) continue;
+
+                Viewer viewer = viewers.get(player.getUniqueId());
+                if (viewer == null || viewer.player != player) {
+                    if (viewer != null) {
+                        // Same player after a relog
+                        bossBar.removePlayer(viewer.player);
+                    }
+                    viewer = new Viewer(player);
+                    viewers.put(player.getUniqueId(), viewer);
+                    bossBar.addPlayer(player);
+                }
+                viewer.seenPass = pass;
+            }
+        }
+
+        private void hideAll() {
+            BossBar bossBar = mob.getBossBar();
+            if (bossBar != null) {
+                for (Viewer viewer : viewers.values()) {
+                    bossBar.removePlayer(viewer.player);
+                }
+            }
+            viewers.clear();
+            progress = -1;
+        }
+    }
+
+    private static final class Viewer {
+        private final Player player;
+        private long seenPass;
+
+        private Viewer(Player player) {
+            this.player = player;
+        }
+    }
+}
@@ -60,7 +60,6 @@ public class BusinessVillager extends CustomMob implements Listener {
 
     public BusinessVillager(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
         this.trades = setupTrades();
     }
 
@@ -118,8 +117,7 @@ public class BusinessVillager extends CustomMob implements Listener {
     private void addRandomFlowerTrade(List<MerchantRecipe> recipes, Class<? extends CustomItem> itemClass, int maxUses) {
         try {
             // Create and register the item
-            CustomItem item = itemClass.getDeclaredConstructor(Minigame.class).newInstance(minigame);
-            minigame.getItemManager().registerItem(item);
+            CustomItem item = minigame.getItemManager().getOrCreateItem(itemClass);
 
             // Create the trade recipe
             ItemStack result = item.createItem();
@@ -135,7 +133,7 @@ public class BusinessVillager extends CustomMob implements Listener {
     @EventHandler(ignoreCancelled = true)
     public void onPlayerInteract(PlayerInteractEntityEvent event) {
         if (!minigame.isRunning()) return;
-        if (!minigame.getPlayers().contains(event.getPlayer())) return;
+        if (!minigame.hasPlayer(event.getPlayer())) return;
         if (!(event.getRightClicked() instanceof Piglin piglin)) return;
         if (!isInstance(piglin)) return;
 
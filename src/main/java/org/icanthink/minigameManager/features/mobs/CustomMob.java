@@ -7,7 +7,7 @@ import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Mob;
-import org.bukkit.entity.Player;
+import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityTargetEvent;
@@ -18,9 +18,8 @@ import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.features.FeatureScope;
 
-import java.util.HashSet;
-import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -34,9 +33,10 @@ public abstract class CustomMob {
     protected final UUID mobId;
     protected boolean showBossBar;
     protected BossBar bossBar;
-    protected final Set<Player> nearbyPlayers;
-    private static final NamespacedKey MOB_ID_KEY = new NamespacedKey(MinigameManager.plugin, "custom_mob_id");
-    private static final double BOSS_BAR_RANGE = 50.0; // Range in blocks to show boss bar
+    private UUID entityId;
+    private FeatureScope scope;
+    // The plugin's own namespace, spelled out so the key does not need the plugin instance
+    private static final NamespacedKey MOB_ID_KEY = new NamespacedKey("minigamemanager", "custom_mob_id");
 
     /**
      * Create a new custom mob.
@@ -49,7 +49,6 @@ public abstract class CustomMob {
         this.entityType = getEntityType();
         this.mobId = UUID.randomUUID();
         this.showBossBar = shouldShowBossBar();
-        this.nearbyPlayers = new HashSet<>();
         if (this.showBossBar) {
             this.bossBar = MinigameManager.plugin.getServer().createBossBar(
                 name,
@@ -117,6 +116,7 @@ public abstract class CustomMob {
             entity.setCustomName(null);
             entity.setCustomNameVisible(false);
         }
+        entityId = entity.getUniqueId();
         entity.getPersistentDataContainer().set(MOB_ID_KEY, PersistentDataType.STRING, mobId.toString());
         customizeMob(entity);
         customizeAI(entity);
@@ -267,38 +267,13 @@ public abstract class CustomMob {
     }
 
     /**
-     * Update the boss bar for nearby players.
-     * Call this method periodically to update the boss bar visibility and progress.
+     * Get the boss bar of this mob. Its viewers and progress are kept up to date by the
+     * {@link BossBarService} of the owning CustomMobManager.
      *
-     * @param entity The entity to update the boss bar for
+     * @return The boss bar, or null if this mob has none or it was cleaned up
      */
-    public void updateBossBar(LivingEntity entity) {
-        if (!showBossBar || bossBar == null) return;
-
-        // Update boss bar progress
-        double healthPercent = entity.getHealth() / entity.getMaxHealth();
-        bossBar.setProgress(Math.max(0.0, Math.min(1.0, healthPercent)));
-
-        // Update nearby players
-        Set<Player> currentNearby = new HashSet<>();
-        for (Player player : entity.getWorld().getPlayers()) {
-            if (player.getLocation().distance(entity.getLocation()) <= BOSS_BAR_RANGE) {
-                currentNearby.add(player);
-                if (!nearbyPlayers.contains(player)) {
-                    bossBar.addPlayer(player);
-                }
-            }
-        }
-
-        // Remove players that are no longer nearby
-        for (Player player : nearbyPlayers) {
-            if (!currentNearby.contains(player)) {
-                bossBar.removePlayer(player);
-            }
-        }
-
-        nearbyPlayers.clear();
-        nearbyPlayers.addAll(currentNearby);
+    public BossBar getBossBar() {
+        return bossBar;
     }
 
     /**
@@ -306,10 +281,12 @@ public abstract class CustomMob {
      */
     public void cleanupBossBar() {
         if (bossBar != null) {
+            if (scope != null) {
+                scope.untrack(bossBar);
+            }
             bossBar.removeAll();
             bossBar = null;
         }
-        nearbyPlayers.clear();
     }
 
     /**
@@ -321,6 +298,56 @@ public abstract class CustomMob {
         return mobId;
     }
 
+    /**
+     * Get the UUID of the entity this mob was applied to.
+     *
+     * @return The entity's UUID, or null if the mob has not been created yet
+     */
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Activate this mob in a running minigame. Called by the CustomMobManager before the mob is created.
+     * Mobs that are listeners are registered through the given scope, and the boss bar is tracked by it.
+     *
+     * @param scope The scope of the owning CustomMobManager
+     */
+    public final void enable(FeatureScope scope) {
+        if (this.scope != null) return;
+        this.scope = scope;
+
+        if (this instanceof Listener listener) {
+            scope.registerListener(listener);
+        }
+        if (bossBar != null) {
+            scope.track(bossBar);
+        }
+    }
+
+    /**
+     * Deactivate this mob, unregistering its listeners and removing its boss bar.
+     * Called by the CustomMobManager when the mob dies or the minigame ends.
+     */
+    public final void disable() {
+        if (scope == null) return;
+
+        cleanupBossBar();
+        if (this instanceof Listener listener) {
+            scope.unregisterListener(listener);
+        }
+        scope = null;
+    }
+
+    /**
+     * Get the scope this mob is enabled in.
+     *
+     * @return The scope, or null if the mob is not enabled
+     */
+    protected FeatureScope getScope() {
+        return scope;
+    }
+
     /**
      * Check if an entity is an instance of this custom mob.
      *
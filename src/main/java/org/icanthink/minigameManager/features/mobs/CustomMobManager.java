@@ -6,32 +6,36 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityTargetEvent;
-import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.NamespacedKey;
 import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.events.GameIndex;
 import org.icanthink.minigameManager.features.Feature;
+import org.icanthink.minigameManager.profiling.TickProfiler;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.Location;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Feature that manages custom mobs in minigames.
  * Handles registration and event handling for custom mobs.
+ * Mob handlers are timed under the mob's own class, nested inside this manager's handler.
  */
 public class CustomMobManager extends Feature implements Listener {
-    private final List<CustomMob> customMobs;
-    private static final NamespacedKey MOB_ID_KEY = new NamespacedKey(MinigameManager.plugin, "custom_mob_id");
+    // Keyed by entity UUID, so entities that are not custom mobs are rejected without reading their tags
+    private final Map<UUID, CustomMob> mobsByEntity;
+    private final BossBarService bossBarService;
 
     public CustomMobManager(Minigame minigame) {
         super(minigame);
-        this.customMobs = new ArrayList<>();
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
+        this.mobsByEntity = new LinkedHashMap<>();
+        this.bossBarService = new BossBarService();
     }
 
     /**
@@ -42,20 +46,27 @@ public class CustomMobManager extends Feature implements Listener {
      * @return The created and registered custom mob instance
      */
     public <T extends CustomMob> T spawnMob(Location location, Class<T> mobClass) {
+        T mob;
         try {
-            // Get the entity type from a temporary instance
-            T tempMob = mobClass.getDeclaredConstructor(Minigame.class).newInstance(minigame);
-            EntityType entityType = tempMob.getEntityType();
-
-            // Spawn the entity and create the mob
-            LivingEntity entity = (LivingEntity) location.getWorld().spawnEntity(location, entityType);
-            T mob = mobClass.getDeclaredConstructor(Minigame.class).newInstance(minigame);
-            customMobs.add(mob);
-            mob.createMob(entity);
-            return mob;
+            mob = mobClass.getDeclaredConstructor(Minigame.class).newInstance(minigame);
         } catch (Exception e) {
             throw new RuntimeException("Failed to create custom mob instance", e);
         }
+
+        // Spawn the entity and create the mob
+        EntityType entityType = mob.getEntityType();
+        LivingEntity entity = (LivingEntity) location.getWorld().spawnEntity(location, entityType);
+        mob.enable(getScope());
+        try {
+            mob.createMob(entity);
+        } catch (RuntimeException e) {
+            mob.disable();
+            throw e;
+        }
+        mobsByEntity.put(entity.getUniqueId(), mob);
+        bossBarService.register(mob, entity);
+        GameIndex.bindEntity(entity.getUniqueId(), minigame);
+        return mob;
     }
 
     /**
@@ -75,7 +86,10 @@ public class CustomMobManager extends Feature implements Listener {
      * @param mob The custom mob to unregister
      */
     public void unregisterMob(CustomMob mob) {
-        customMobs.remove(mob);
+        bossBarService.unregister(mob);
+        if (mob.getEntityId() != null) {
+            mobsByEntity.remove(mob.getEntityId(), mob);
+        }
     }
 
     /**
@@ -84,7 +98,7 @@ public class CustomMobManager extends Feature implements Listener {
      * @return List of registered custom mobs
      */
     public List<CustomMob> getCustomMobs() {
-        return customMobs;
+        return new ArrayList<>(mobsByEntity.values());
     }
 
     /**
@@ -93,27 +107,48 @@ public class CustomMobManager extends Feature implements Listener {
      * @param entity The entity to find
      * @return The matching CustomMob, or null if not found
      */
-    private CustomMob findCustomMob(Entity entity) {
+    public CustomMob findCustomMob(Entity entity) {
         if (entity == null) return null;
+        return mobsByEntity.get(entity.getUniqueId());
+    }
 
-        String storedId = entity.getPersistentDataContainer()
-            .get(MOB_ID_KEY, PersistentDataType.STRING);
-        if (storedId == null) return null;
+    /**
+     * Get the service that shows custom mob boss bars to nearby players.
+     *
+     * @return The boss bar service
+     */
+    public BossBarService getBossBarService() {
+        return bossBarService;
+    }
 
-        UUID mobId = UUID.fromString(storedId);
-        for (CustomMob mob : customMobs) {
-            if (mob.getMobId().equals(mobId)) {
-                return mob;
-            }
+    @Override
+    protected void onEnable() {
+        getScope().runTaskTimer(bossBarService::update, 0L, BossBarService.UPDATE_INTERVAL);
+    }
+
+    @Override
+    protected void onDisable() {
+        bossBarService.clear();
+        for (Map.Entry<UUID, CustomMob> entry : mobsByEntity.entrySet()) {
+            entry.getValue().disable();
+            GameIndex.unbindEntity(entry.getKey());
         }
-        return null;
+        mobsByEntity.clear();
     }
 
     @EventHandler
     public void onEntityDamage(EntityDamageEvent event) {
         CustomMob mob = findCustomMob(event.getEntity());
         if (mob != null) {
-            if (mob.onDamage(event)) {
+            TickProfiler profiler = MinigameManager.plugin.getProfiler();
+            long start = profiler.start();
+            boolean cancel;
+            try {
+                cancel = mob.onDamage(event);
+            } finally {
+                profiler.stop(minigame, mob.getClass(), start);
+            }
+            if (cancel) {
                 event.setCancelled(true);
             }
         }
@@ -123,8 +158,16 @@ public class CustomMobManager extends Feature implements Listener {
     public void onEntityDeath(EntityDeathEvent event) {
         CustomMob mob = findCustomMob(event.getEntity());
         if (mob != null) {
-            mob.onDeath(event);
+            TickProfiler profiler = MinigameManager.plugin.getProfiler();
+            long start = profiler.start();
+            try {
+                mob.onDeath(event);
+            } finally {
+                profiler.stop(minigame, mob.getClass(), start);
+            }
+            mob.disable();
             unregisterMob(mob);
+            GameIndex.unbindEntity(event.getEntity().getUniqueId());
         }
     }
 
@@ -132,7 +175,15 @@ public class CustomMobManager extends Feature implements Listener {
     public void onEntityTarget(EntityTargetEvent event) {
         CustomMob mob = findCustomMob(event.getEntity());
         if (mob != null) {
-            if (mob.onTarget(event)) {
+            TickProfiler profiler = MinigameManager.plugin.getProfiler();
+            long start = profiler.start();
+            boolean cancel;
+            try {
+                cancel = mob.onTarget(event);
+            } finally {
+                profiler.stop(minigame, mob.getClass(), start);
+            }
+            if (cancel) {
                 event.setCancelled(true);
             }
         }
@@ -26,7 +26,6 @@ public class SpecialDog extends CustomMob implements Listener {
 
     public SpecialDog(Minigame minigame) {
         super(minigame);
-        MinigameManager.plugin.getServer().getPluginManager().registerEvents(this, MinigameManager.plugin);
     }
 
     @Override
@@ -48,7 +47,7 @@ public class SpecialDog extends CustomMob implements Listener {
         double nearestDistance = Double.MAX_VALUE;
 
         for (Player player : entity.getWorld().getPlayers()) {
-            if (!minigame.getPlayers().contains(player)) continue;
+            if (!minigame.hasPlayer(player)) continue;
 
             double distance = player.getLocation().distance(entity.getLocation());
             if (distance < nearestDistance) {
@@ -71,7 +70,7 @@ public class SpecialDog extends CustomMob implements Listener {
             awaitingName = true;
 
             // Schedule a task to check for player chat
-            Bukkit.getScheduler().runTaskLater(MinigameManager.plugin, () -> {
+            getScope().runTaskLater(() -> {
                 if (customName == null) {
                     // If no name was set after 30 seconds, use a default name
                     setCustomName(owner.getName() + "'s Dog");
@@ -0,0 +1,211 @@
+package org.icanthink.minigameManager.games;
+
+import org.icanthink.minigameManager.Minigame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds every hosted and running minigame, indexed by game ID and join code.
+ * Games move from pending to running when started, and to ending while {@link Minigame#end()} runs,
+ * after which they are removed. Changes are made on the main thread; lookups and snapshots
+ * can be read from any thread.
+ */
+public class GameRegistry {
+    private final Map<String, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Entry> byJoinCode = new ConcurrentHashMap<>();
+    // Minigames do not override equals, so this is keyed on identity
+    private final Map<Minigame, Entry> byGame = new ConcurrentHashMap<>();
+    // Ended games by ID, held weakly so only games that leaked stay listed
+    private final Map<Minigame, String> ended = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Lifecycle state of a registered minigame.
+     */
+    public enum State {
+        PENDING,
+        RUNNING,
+        ENDING
+    }
+
+    /**
+     * A registered minigame. Entries are immutable; a state change replaces the entry.
+     *
+     * @param id The game ID used by commands
+     * @param joinCode The code players join with, or null if the game cannot be joined
+     * @param minigame The minigame
+     * @param state The game's state when the entry was read
+     */
+    public record Entry(String id, String joinCode, Minigame minigame, State state) {}
+
+    /**
+     * Register a hosted minigame that players can join until it is started.
+     * Its join code doubles as its game ID.
+     *
+     * @param minigame The minigame to host
+     * @return The pending entry
+     */
+    public synchronized Entry host(Minigame minigame) {
+        String code = newId();
+        return put(new Entry(code, code, minigame, State.PENDING));
+    }
+
+    /**
+     * Start a minigame, registering it first if it was not hosted.
+     * A game that does not start running is removed again.
+     *
+     * @param minigame The minigame to start
+     * @return The running entry, or null if the game did not start
+     */
+    public Entry start(Minigame minigame) {
+        synchronized (this) {
+            Entry entry = byGame.get(minigame);
+            String id = entry != null ? entry.id() : newId();
+            // Started games can no longer be joined with a code
+            put(new Entry(id, null, minigame, State.RUNNING));
+        }
+
+        minigame.start();
+
+        if (!minigame.isRunning()) {
+            remove(minigame);
+            return null;
+        }
+        return byGame.get(minigame);
+    }
+
+    /**
+     * Mark a minigame as ending. Called by the minigame when it starts ending.
+     *
+     * @param minigame The minigame
+     */
+    public synchronized void markEnding(Minigame minigame) {
+        Entry entry = byGame.get(minigame);
+        if (entry != null) {
+            put(new Entry(entry.id(), entry.joinCode(), minigame, State.ENDING));
+        }
+    }
+
+    /**
+     * Remove a minigame from the registry. Called by the minigame once it has ended.
+     *
+     * @param minigame The minigame
+     */
+    public synchronized void remove(Minigame minigame) {
+        Entry entry = byGame.remove(minigame);
+        if (entry == null) return;
+
+        byId.remove(entry.id(), entry);
+        if (entry.joinCode() != null) {
+            byJoinCode.remove(entry.joinCode(), entry);
+        }
+        if (minigame.isEnded()) {
+            ended.put(minigame, entry.id());
+        }
+    }
+
+    /**
+     * Get a minigame by its game ID.
+     *
+     * @param id The game ID, in any case
+     * @return The entry, or null if there is no such game
+     */
+    public Entry get(String id) {
+        return byId.get(id.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Get a hosted minigame by its join code.
+     *
+     * @param joinCode The join code, in any case
+     * @return The pending entry, or null if no game can be joined with the code
+     */
+    public Entry getByJoinCode(String joinCode) {
+        return byJoinCode.get(joinCode.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Get the entry of a minigame.
+     *
+     * @param minigame The minigame
+     * @return The entry, or null if the minigame is not registered
+     */
+    public Entry getEntry(Minigame minigame) {
+        return byGame.get(minigame);
+    }
+
+    /**
+     * Get a copy of all registered minigames.
+     *
+     * @return Snapshot of the entries, sorted by game ID
+     */
+    public List<Entry> getGames() {
+        List<Entry> games = new ArrayList<>(byGame.values());
+        games.sort((a, b) -> a.id().compareTo(b.id()));
+        return games;
+    }
+
+    /**
+     * Get a copy of the registered minigames in a state.
+     *
+     * @param state The state to filter on
+     * @return Snapshot of the matching entries, sorted by game ID
+     */
+    public List<Entry> getGames(State state) {
+        List<Entry> games = getGames();
+        games.removeIf(entry -> entry.state() != state);
+        return games;
+    }
+
+    /**
+     * Get a copy of all join codes that can currently be joined.
+     *
+     * @return List of join codes
+     */
+    public List<String> getJoinCodes() {
+        return new ArrayList<>(byJoinCode.keySet());
+    }
+
+    /**
+     * Get minigames that were removed after ending but have not been garbage collected yet.
+     * A game that stays here long after it ended is still referenced from somewhere.
+     *
+     * @return Snapshot of the ended entries, sorted by game ID
+     */
+    public List<Entry> getEndedGames() {
+        List<Entry> games = new ArrayList<>();
+        synchronized (ended) {
+            for (Map.Entry<Minigame, String> entry : ended.entrySet()) {
+                games.add(new Entry(entry.getValue(), null, entry.getKey(), State.ENDING));
+            }
+        }
+        games.sort((a, b) -> a.id().compareTo(b.id()));
+        return games;
+    }
+
+    private Entry put(Entry entry) {
+        Entry previous = byGame.put(entry.minigame(), entry);
+        if (previous != null && previous.joinCode() != null && entry.joinCode() == null) {
+            byJoinCode.remove(previous.joinCode(), previous);
+        }
+        byId.put(entry.id(), entry);
+        if (entry.joinCode() != null) {
+            byJoinCode.put(entry.joinCode(), entry);
+        }
+        return entry;
+    }
+
+    private String newId() {
+        String id;
+        do {
+            id = UUID.randomUUID().toString().substring(0, 8).toUpperCase(Locale.ROOT);
+        } while (byId.containsKey(id));
+        return id;
+    }
+}
@@ -22,8 +22,6 @@ import net.md_5.bungee.api.chat.ClickEvent;
 import net.md_5.bungee.api.chat.ComponentBuilder;
 import net.md_5.bungee.api.chat.HoverEvent;
 import net.md_5.bungee.api.chat.TextComponent;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,9 +30,6 @@ import java.util.Random;
 import java.util.function.Consumer;
 import java.util.WeakHashMap;
 import java.util.Map;
-import java.util.UUID;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Contains all possible random events for GroupHardcore.
@@ -43,7 +38,6 @@ public class GameEvents implements Listener {
     private static final Random random = new Random();
     private static final Map<GroupHardcore, Boolean> zombieEventTriggered = new WeakHashMap<>();
     private static final Map<GroupHardcore, Boolean> businessEventTriggered = new WeakHashMap<>();
-    private static final Map<String, Set<UUID>> usedDogLinks = new WeakHashMap<>();
 
     static {
         // Register this class as a listener
@@ -136,13 +130,13 @@ public class GameEvents implements Listener {
             }
         },
         game -> {
-            // Generate a unique ID for this dog link
-            String linkId = UUID.randomUUID().toString();
-            usedDogLinks.put(linkId, new HashSet<>());
+            // Each player can claim one dog from the link
+            String claimCommand = MinigameManager.plugin.getClickActionService().register(game,
+                player -> game.getMobManager().spawnMob(player.getLocation(), SpecialDog.class));
 
             // Create clickable text component
             TextComponent message = new TextComponent(ChatColor.GREEN + "Click here for a free dog!");
-            message.setClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/claimdog " + linkId));
+            message.setClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, claimCommand));
             message.setHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT,
                 new ComponentBuilder("Click to get your special dog!").create()));
 
@@ -150,27 +144,6 @@ public class GameEvents implements Listener {
             for (Player p : game.getPlayers()) {
                 p.spigot().sendMessage(message);
             }
-
-            // Register command handler if not already registered
-            Bukkit.getPluginManager().registerEvents(new Listener() {
-                @EventHandler
-                public void onCommand(PlayerCommandPreprocessEvent event) {
-                    if (event.getMessage().startsWith("/claimdog " + linkId)) {
-                        event.setCancelled(true);
-                        Player player = event.getPlayer();
-
-                        // Check if player has already used this link
-                        Set<UUID> usedPlayers = usedDogLinks.get(linkId);
-                        if (usedPlayers != null && !usedPlayers.contains(player.getUniqueId())) {
-                            // Spawn the special dog
-                            game.getMobManager().spawnMob(player.getLocation(), SpecialDog.class);
-                            usedPlayers.add(player.getUniqueId());
-                        } else {
-                            player.sendMessage(ChatColor.RED + "This dog link has already been used!");
-                        }
-                    }
-                }
-            }, MinigameManager.plugin);
         }
     );
 }
\ No newline at end of file
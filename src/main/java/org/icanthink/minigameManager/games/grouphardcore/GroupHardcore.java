@@ -8,10 +8,14 @@ import org.bukkit.event.Listener;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.icanthink.minigameManager.Minigame;
 import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.features.AbilityTicker;
+import org.icanthink.minigameManager.features.CompassTracker;
 import org.icanthink.minigameManager.features.InstantSmelting;
 import org.icanthink.minigameManager.features.PlayerResetter;
+import org.icanthink.minigameManager.features.Sidebar;
 import org.icanthink.minigameManager.features.WorldManager;
 import org.icanthink.minigameManager.features.DeathManager;
+import org.icanthink.minigameManager.features.WinConditions;
 import org.icanthink.minigameManager.features.items.CustomItemManager;
 import org.icanthink.minigameManager.features.items.PlayerTracker;
 import org.icanthink.minigameManager.features.mobs.CustomMobManager;
@@ -27,10 +31,14 @@ public class GroupHardcore extends Minigame implements Listener {
     private InstantSmelting instantSmelting;
     private WorldManager worldManager;
     private DeathManager deathManager;
+    private AbilityTicker abilityTicker;
+    private CompassTracker compassTracker;
     private CustomItemManager itemManager;
     private CustomMobManager mobManager;
+    private Sidebar sidebar;
     private BukkitRunnable eventScheduler;
     private final Random random = new Random();
+    private int eventsTriggered;
 
     private static final long MIN_EVENT_DELAY = 3600; // 3 minutes
     private static final long MAX_EVENT_DELAY = 6000; // 5 minutes
@@ -47,28 +55,35 @@ public class GroupHardcore extends Minigame implements Listener {
         this.instantSmelting = new InstantSmelting(this);
         this.worldManager = new WorldManager(this);
         this.deathManager = new DeathManager(this);
+        this.abilityTicker = new AbilityTicker(this);
+        this.compassTracker = new CompassTracker(this);
         this.itemManager = new CustomItemManager(this);
         this.mobManager = new CustomMobManager(this);
+        this.sidebar = new Sidebar(this, "§c§lGroup Hardcore");
 
         // Add features
         addFeature(playerResetter);
         addFeature(instantSmelting);
         addFeature(worldManager);
         addFeature(deathManager);
+        addFeature(abilityTicker);
+        addFeature(compassTracker);
         addFeature(itemManager);
         addFeature(mobManager);
+        addFeature(sidebar);
 
-        // Set up death callback
-        deathManager.setDeathCallback(player -> {
+        // The first death ends the game for everyone
+        deathManager.addWinCondition(WinConditions.firstDeath());
+        deathManager.setWinCallback(result -> {
             for (Player p : getPlayers()) {
-                p.sendTitle("§c" + player.getName() + " died!", "§4Game over", 10, 70, 20);
+                p.sendTitle("§c" + result.message(), "§4Game over", 10, 70, 20);
                 playerResetter.setPlayerSpectator(p);
             }
 
             // End the game after 10 seconds
-            Bukkit.getScheduler().runTaskLater(MinigameManager.plugin, () -> {
+            deathManager.getScope().runTaskLater(() -> {
                 if (isRunning()) {
-                    minigameEnd();
+                    end();
                 }
             }, 200L); // 200 ticks = 10 seconds
         });
@@ -86,9 +101,6 @@ public class GroupHardcore extends Minigame implements Listener {
         // Reset the game state
         setRunning(true);
 
-        // Register this as a listener
-        Bukkit.getPluginManager().registerEvents(this, MinigameManager.plugin);
-
         // Teleport all players to the new world
         for (Player player : getPlayers()) {
             player.teleport(gameWorld.getSpawnLocation());
@@ -103,6 +115,14 @@ public class GroupHardcore extends Minigame implements Listener {
 
         // Start random events
         startEventScheduler();
+
+        // Show how long the group has survived
+        sidebar.publish("events", "Events", 0);
+        long startTime = System.currentTimeMillis();
+        sidebar.getScope().runTaskTimer(() -> {
+            long seconds = (System.currentTimeMillis() - startTime) / 1000;
+            sidebar.publish("time", "Time", String.format("%d:%02d", seconds / 60, seconds % 60));
+        }, 0L, 20L);
     }
 
     @Override
@@ -160,6 +180,7 @@ public class GroupHardcore extends Minigame implements Listener {
      */
     public void triggerRandomEvent() {
         GameEvents.EVENTS.get(random.nextInt(GameEvents.EVENTS.size())).accept(this);
+        sidebar.publish("events", "Events", ++eventsTriggered);
     }
 
     @Override
@@ -172,8 +193,8 @@ public class GroupHardcore extends Minigame implements Listener {
         removePlayer(player);
 
         // Check if we should end the game
-        if (isRunning() && getPlayers().isEmpty()) {
-            minigameEnd();
+        if (isRunning() && getPlayerIds().isEmpty()) {
+            end();
         }
     }
 
@@ -0,0 +1,212 @@
+package org.icanthink.minigameManager.profiling;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.icanthink.minigameManager.Minigame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Measures how much main-thread time each minigame costs per tick.
+ * Routed event handlers and scope tasks are timed with {@link System#nanoTime()} and attributed to
+ * their minigame and class. Per-tick totals are kept over a sliding window of recent ticks.
+ * When disabled, timing a call costs a single field read.
+ */
+public class TickProfiler implements Listener {
+    private final int windowTicks;
+    private volatile boolean enabled;
+    private final Map<Minigame, GameProfile> games = new WeakHashMap<>(); // Main thread only
+    private int depth;
+
+    public TickProfiler(boolean enabled, int windowTicks) {
+        this.enabled = enabled;
+        this.windowTicks = Math.max(1, windowTicks);
+    }
+
+    /**
+     * Check if calls are being timed.
+     *
+     * @return true if the profiler is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turn timing on or off. Turning it off drops everything collected so far.
+     *
+     * @param enabled true to start timing
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            games.clear();
+            depth = 0;
+        }
+    }
+
+    /**
+     * Get the number of ticks each report covers.
+     *
+     * @return The window size in ticks
+     */
+    public int getWindowTicks() {
+        return windowTicks;
+    }
+
+    /**
+     * Start timing a call. Pair every call with {@link #stop(Minigame, Class, long)}.
+     *
+     * @return The start timestamp, or 0 if the call is not timed
+     */
+    public long start() {
+        if (!enabled || !Bukkit.isPrimaryThread()) return 0;
+        depth++;
+        return System.nanoTime();
+    }
+
+    /**
+     * Finish timing a call. Calls nested in another timed call count towards their own class,
+     * but only the outermost call counts towards the minigame's total.
+     *
+     * @param minigame The minigame the call belongs to
+     * @param source The class that did the work
+     * @param start The timestamp returned by {@link #start()}
+     */
+    public void stop(Minigame minigame, Class<?> source, long start) {
+        if (start == 0) return;
+        long elapsed = System.nanoTime() - start;
+        if (!enabled || depth == 0) return; // Turned off while the call was running
+        depth--;
+
+        GameProfile game = games.computeIfAbsent(minigame, key -> new GameProfile(windowTicks));
+        if (depth == 0) {
+            game.total.current += elapsed;
+        }
+        game.sources.computeIfAbsent(source, key -> new Samples(windowTicks)).current += elapsed;
+    }
+
+    /**
+     * Wrap a task so each run is timed for a minigame.
+     *
+     * @param minigame The minigame the task belongs to
+     * @param source The class to attribute the task to
+     * @param task The task to wrap
+     * @return The timed task
+     */
+    public Runnable wrap(Minigame minigame, Class<?> source, Runnable task) {
+        return () -> {
+            long start = start();
+            try {
+                task.run();
+            } finally {
+                stop(minigame, source, start);
+            }
+        };
+    }
+
+    /**
+     * Get the profile of a minigame over the current window.
+     *
+     * @param minigame The minigame
+     * @return The report, or null if nothing was recorded for the minigame
+     */
+    public Report report(Minigame minigame) {
+        GameProfile game = games.get(minigame);
+        if (game == null) return null;
+
+        List<SourceStats> sources = new ArrayList<>();
+        for (Map.Entry<Class<?>, Samples> entry : game.sources.entrySet()) {
+            sources.add(entry.getValue().stats(entry.getKey().getName()));
+        }
+        sources.sort((a, b) -> Double.compare(b.meanMillis(), a.meanMillis()));
+        return new Report(game.total.stats(minigame.getClass().getSimpleName()), Collections.unmodifiableList(sources));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(ServerTickEndEvent event) {
+        if (!enabled || games.isEmpty()) return;
+
+        for (GameProfile game : games.values()) {
+            game.total.roll();
+            for (Samples samples : game.sources.values()) {
+                samples.roll();
+            }
+        }
+    }
+
+    /**
+     * Per-tick times of a minigame over the window, as a total and per class.
+     *
+     * @param total Time spent on the minigame per tick
+     * @param sources Time spent per class, most expensive first
+     */
+    public record Report(SourceStats total, List<SourceStats> sources) {}
+
+    /**
+     * Per-tick statistics of one source over the window.
+     *
+     * @param name The source's name
+     * @param meanMillis Mean time per tick in milliseconds
+     * @param p99Millis 99th percentile of the time per tick in milliseconds
+     * @param maxMillis Longest time in a single tick in milliseconds
+     * @param ticks Number of ticks the statistics cover
+     */
+    public record SourceStats(String name, double meanMillis, double p99Millis, double maxMillis, int ticks) {}
+
+    private static final class GameProfile {
+        private final Samples total;
+        private final Map<Class<?>, Samples> sources = new HashMap<>();
+
+        private GameProfile(int windowTicks) {
+            this.total = new Samples(windowTicks);
+        }
+    }
+
+    /**
+     * Time spent in the current tick plus a ring of the time spent in recent ticks.
+     */
+    private static final class Samples {
+        private final long[] window;
+        private int next;
+        private int filled;
+        private long current;
+
+        private Samples(int windowTicks) {
+            this.window = new long[windowTicks];
+        }
+
+        private void roll() {
+            window[next] = current;
+            current = 0;
+            next = (next + 1) % window.length;
+            if (filled < window.length) {
+                filled++;
+            }
+        }
+
+        private SourceStats stats(String name) {
+            if (filled == 0) return new SourceStats(name, 0, 0, 0, 0);
+
+            // Until the window wraps, only the first slots hold samples
+            long[] sorted = Arrays.copyOf(window, filled);
+            Arrays.sort(sorted);
+            long sum = 0;
+            for (long value : sorted) {
+                sum += value;
+            }
+            int p99Index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * 0.99) - 1);
+            return new SourceStats(name, sum / (double) sorted.length / 1_000_000.0,
+                sorted[Math.max(0, p99Index)] / 1_000_000.0, sorted[sorted.length - 1] / 1_000_000.0, sorted.length);
+        }
+    }
+}
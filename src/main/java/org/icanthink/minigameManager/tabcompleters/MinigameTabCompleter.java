@@ -9,6 +9,7 @@ import org.bukkit.entity.Player;
 import org.icanthink.minigameManager.MinigameManager;
 import org.icanthink.minigameManager.commands.GiveCustomItemCommand;
 import org.icanthink.minigameManager.commands.SummonCustomMobCommand;
+import org.icanthink.minigameManager.games.GameRegistry;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -66,6 +67,21 @@ public class MinigameTabCompleter implements TabCompleter {
                 // First argument: game ID
                 completions.addAll(getActiveGameIds(args[0]));
             }
+        } else if (command.getName().equalsIgnoreCase("leakcheck")) {
+            if (args.length == 1) {
+                // First argument: game ID
+                completions.addAll(getActiveGameIds(args[0]));
+            }
+        } else if (command.getName().equalsIgnoreCase("mgprofile")) {
+            if (args.length == 1) {
+                // First argument: game ID or on/off
+                completions.addAll(getActiveGameIds(args[0]));
+                for (String toggle : Arrays.asList("on", "off")) {
+                    if (toggle.startsWith(args[0].toLowerCase())) {
+                        completions.add(toggle);
+                    }
+                }
+            }
         } else if (command.getName().equalsIgnoreCase("givecustomitem")) {
             if (args.length == 1) {
                 // First argument: item name
@@ -171,11 +187,11 @@ public class MinigameTabCompleter implements TabCompleter {
      * @return List of matching game codes
      */
     private List<String> getPendingGameCodes(String current) {
-        if (MinigameManager.plugin.getHostMinigameCommand() == null) {
+        if (MinigameManager.plugin.getGameRegistry() == null) {
             return Collections.emptyList();
         }
 
-        List<String> codes = MinigameManager.plugin.getHostMinigameCommand().getAllPendingCodes();
+        List<String> codes = MinigameManager.plugin.getGameRegistry().getJoinCodes();
 
         if (current.isEmpty()) {
             return codes;
@@ -193,7 +209,10 @@ public class MinigameTabCompleter implements TabCompleter {
      * @return List of matching game IDs
      */
     private List<String> getActiveGameIds(String current) {
-        List<String> ids = new ArrayList<>(MinigameManager.plugin.getStartMinigameCommand().getActiveMinigames().keySet());
+        List<String> ids = new ArrayList<>();
+        for (GameRegistry.Entry entry : MinigameManager.plugin.getGameRegistry().getGames(GameRegistry.State.RUNNING)) {
+            ids.add(entry.id());
+        }
         if (current.isEmpty()) {
             return ids;
         }
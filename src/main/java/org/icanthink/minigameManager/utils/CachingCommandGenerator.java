@@ -0,0 +1,112 @@
+package org.icanthink.minigameManager.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Remembers the most recent responses of another generator, keyed on the normalized prompt.
+ * Identical prompts that arrive while a request is still running share that request.
+ * Callers should keep per-player details such as names and positions out of the prompt,
+ * otherwise no two prompts match and every request misses.
+ */
+public class CachingCommandGenerator implements CommandGenerator {
+    private final CommandGenerator delegate;
+    private final Map<String, CompletableFuture<String>> cache;
+    private long hits;
+    private long misses;
+
+    public CachingCommandGenerator(CommandGenerator delegate, int maxEntries) {
+        this.delegate = delegate;
+        // Access-ordered, so the eldest entry is the least recently used
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<String>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public CompletableFuture<String> generate(String prompt) {
+        return generate(prompt, line -> {
+        });
+    }
+
+    /**
+     * Generate commands, streaming from the wrapped generator on a miss. A cached response
+     * or a shared running request hands on its lines once the whole response is in.
+     */
+    @Override
+    public CompletableFuture<String> generate(String prompt, Consumer<String> onLine) {
+        String key = normalize(prompt);
+        CompletableFuture<String> response;
+        synchronized (this) {
+            response = cache.get(key);
+            if (response != null && !response.isCompletedExceptionally()) {
+                hits++;
+                return response.thenApply(text -> {
+                    text.lines().forEach(onLine);
+                    return text;
+                });
+            }
+            misses++;
+            response = new CompletableFuture<>();
+            cache.put(key, response);
+        }
+
+        CompletableFuture<String> pending = response;
+        CompletableFuture<String> request;
+        try {
+            request = delegate.generate(prompt, onLine);
+        } catch (RuntimeException e) {
+            // Otherwise the pending entry would never complete, and identical prompts would wait on it forever
+            request = CompletableFuture.failedFuture(e);
+        }
+        request.whenComplete((result, error) -> {
+            if (error != null) {
+                // Failures are not cached
+                synchronized (this) {
+                    cache.remove(key, pending);
+                }
+                pending.completeExceptionally(error);
+            } else {
+                pending.complete(result);
+            }
+        });
+        return pending;
+    }
+
+    /**
+     * Get the number of prompts answered from the cache.
+     *
+     * @return The hit count
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of prompts passed on to the wrapped generator.
+     *
+     * @return The miss count
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the generator behind the cache.
+     *
+     * @return The wrapped generator
+     */
+    public CommandGenerator getDelegate() {
+        return delegate;
+    }
+
+    private static String normalize(String prompt) {
+        return prompt.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,28 +1,66 @@
 package org.icanthink.minigameManager.utils;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonArray;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import org.bukkit.configuration.file.FileConfiguration;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import org.bukkit.Bukkit;
 
-public class ChatGPTClient {
-    private static final String API_URL = "https://api.openai.com/v1/chat/completions";
-    private static final Gson gson = new Gson();
+/**
+ * Generates commands with the OpenAI chat completions API, or any server speaking the same protocol.
+ * Requests go over a shared HTTP/2 connection and responses are streamed, so each command line is
+ * handed on as soon as it arrives. All response handling runs on virtual threads.
+ * Each attempt has to finish reading its response within the timeout, or it fails and frees its slot.
+ */
+public class ChatGPTClient implements CommandGenerator {
+    public static final String DEFAULT_API_URL = "https://api.openai.com/v1/chat/completions";
+    private static final long RETRY_BACKOFF_MS = 500; // Doubled after each failed attempt
+    private static final int MAX_ERROR_BODY = 512; // Characters of an error response kept for the exception
+    private static final String SSE_DATA = "data:";
+    private static final String SSE_DONE = "[DONE]";
 
     private final HttpClient client;
+    private final ExecutorService executor;
+    // Closes response bodies that are still being read when their attempt runs out of time
+    private final ScheduledExecutorService deadlines;
+    private final URI apiUrl;
     private final String apiKey;
     private final String model;
+    private final Duration timeout;
+    private final int maxRetries;
+    private final int maxConcurrent;
+
+    // Requests waiting for a free slot; guarded by this
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private int active;
 
     /**
      * Creates a new ChatGPT client with custom configuration.
@@ -32,10 +70,40 @@ public class ChatGPTClient {
      * @param timeoutSeconds Timeout in seconds for API calls
      */
     public ChatGPTClient(String apiKey, String model, int timeoutSeconds) {
+        this(DEFAULT_API_URL, apiKey, model, timeoutSeconds, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new ChatGPT client for any OpenAI-compatible endpoint.
+     *
+     * @param apiUrl The chat completions URL
+     * @param apiKey The OpenAI API key
+     * @param model The model to use (e.g. "gpt-3.5-turbo")
+     * @param timeoutSeconds Timeout in seconds for connecting, and for each attempt's headers and body
+     * @param maxRetries How often to retry after a network error, rate limit or server error
+     * @param maxConcurrent Maximum number of requests running at the same time
+     * @throws IllegalArgumentException if the URL is not an http or https URL
+     */
+    public ChatGPTClient(String apiUrl, String apiKey, String model, int timeoutSeconds, int maxRetries, int maxConcurrent) {
+        this.apiUrl = URI.create(apiUrl);
+        // URI.create accepts URLs without a scheme, which the HTTP client would reject on every request
+        String scheme = this.apiUrl.getScheme();
+        if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) {
+            throw new IllegalArgumentException("openai.api_url must be an http or https URL: " + apiUrl);
+        }
         this.apiKey = apiKey;
         this.model = model;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("MinigameManager-ChatGPT-", 0).factory());
+        this.deadlines = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("MinigameManager-ChatGPT-deadlines").daemon().factory());
+        // Falls back to HTTP/1.1 on servers without HTTP/2
         this.client = HttpClient.newBuilder()
-            .connectTimeout(Duration.ofSeconds(timeoutSeconds))
+            .version(HttpClient.Version.HTTP_2)
+            .executor(executor)
+            .connectTimeout(timeout)
             .build();
     }
 
@@ -46,12 +114,25 @@ public class ChatGPTClient {
      */
     public ChatGPTClient(FileConfiguration config) {
         this(
+            config.getString("openai.api_url", DEFAULT_API_URL),
             config.getString("openai.api_key", ""),
             config.getString("openai.model", "gpt-4o-mini"),
-            config.getInt("openai.timeout_seconds", 30)
+            config.getInt("openai.timeout_seconds", 30),
+            config.getInt("openai.max_retries", 2),
+            config.getInt("openai.max_concurrent_requests", 4)
         );
     }
 
+    @Override
+    public CompletableFuture<String> generate(String prompt) {
+        return sendMessage(prompt);
+    }
+
+    @Override
+    public CompletableFuture<String> generate(String prompt, Consumer<String> onLine) {
+        return sendMessage(prompt, onLine);
+    }
+
     /**
      * Sends a message to ChatGPT and returns the response asynchronously.
      *
@@ -59,45 +140,265 @@ public class ChatGPTClient {
      * @return A CompletableFuture that will contain the response
      */
     public CompletableFuture<String> sendMessage(String prompt) {
-        JsonObject requestBody = new JsonObject();
-        requestBody.addProperty("model", model);
-
-        JsonArray messages = new JsonArray();
-        JsonObject message = new JsonObject();
-        message.addProperty("role", "user");
-        message.addProperty("content", prompt);
-        messages.add(message);
-        requestBody.add("messages", messages);
-
-        HttpRequest request = HttpRequest.newBuilder()
-            .uri(URI.create(API_URL))
-            .header("Authorization", "Bearer " + apiKey)
-            .header("Content-Type", "application/json")
-            .POST(HttpRequest.BodyPublishers.ofString(requestBody.toString()))
-            .build();
+        return sendMessage(prompt, line -> {
+        });
+    }
 
-        return client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
-            .thenApply(response -> {
-                if (response.statusCode() != 200) {
-                    String errorBody = response.body();
-                    Bukkit.getLogger().log(Level.SEVERE, "ChatGPT API Error:");
-                    Bukkit.getLogger().log(Level.SEVERE, "Status Code: " + response.statusCode());
-                    Bukkit.getLogger().log(Level.SEVERE, "Response Body: " + errorBody);
-                    throw new RuntimeException("ChatGPT API Error: " + response.statusCode() + " - See console for details");
-                }
+    /**
+     * Sends a message to ChatGPT and streams the response back line by line.
+     *
+     * @param prompt The message to send
+     * @param onLine Called on a background thread with each complete line, as soon as it arrives
+     * @return A CompletableFuture that will contain the whole response
+     */
+    public CompletableFuture<String> sendMessage(String prompt, Consumer<String> onLine) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder()
+                .uri(apiUrl)
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .header("Accept", "text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody(prompt)))
+                .build();
+        } catch (RuntimeException e) {
+            // Callers count on the future to complete, so failures are reported through it
+            return CompletableFuture.failedFuture(e);
+        }
 
-                String responseBody = response.body();
-                JsonObject jsonResponse = gson.fromJson(responseBody, JsonObject.class);
-
-                return jsonResponse
-                    .getAsJsonArray("choices")
-                    .get(0)
-                    .getAsJsonObject()
-                    .getAsJsonObject("message")
-                    .get("content")
-                    .getAsString()
-                    .trim();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        runLimited(() -> attempt(request, 0, onLine, result));
+        return result;
+    }
+
+    /**
+     * Get the number of requests waiting for a free slot.
+     *
+     * @return The waiting request count
+     */
+    public synchronized int getWaitingCount() {
+        return waiting.size();
+    }
+
+    /**
+     * Stop the client's threads, including the HTTP client's selector thread.
+     * Requests still running are abandoned.
+     */
+    public void shutdown() {
+        client.shutdownNow();
+        deadlines.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private String requestBody(String prompt) {
+        StringWriter body = new StringWriter(prompt.length() + 128);
+        try (JsonWriter json = new JsonWriter(body)) {
+            json.beginObject();
+            json.name("model").value(model);
+            json.name("stream").value(true);
+            json.name("messages").beginArray();
+            json.beginObject();
+            json.name("role").value("user");
+            json.name("content").value(prompt);
+            json.endObject();
+            json.endArray();
+            json.endObject();
+        } catch (IOException e) {
+            // A StringWriter does not throw
+            throw new IllegalStateException(e);
+        }
+        return body.toString();
+    }
+
+    private void attempt(HttpRequest request, int attempt, Consumer<String> onLine, CompletableFuture<String> result) {
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()).whenComplete((response, error) -> {
+            if (error == null && response.statusCode() == 200) {
+                readBody(response, onLine, result);
+                return;
+            }
+
+            boolean retryable = error != null || response.statusCode() == 429 || response.statusCode() >= 500;
+            if (response != null) {
+                discard(response.body(), retryable && attempt < maxRetries ? null : result, response.statusCode());
+            }
+            if (retryable && attempt < maxRetries) {
+                long delay = RETRY_BACKOFF_MS << attempt;
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor)
+                    .execute(() -> attempt(request, attempt + 1, onLine, result));
+                return;
+            }
+
+            if (error != null) {
+                result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            }
+            release();
+        });
+    }
+
+    /**
+     * Read a successful response before the timeout runs out, then complete the request and free its slot.
+     * The request timeout stops applying once the headers are in, so a stalled stream would otherwise
+     * hold its slot forever. When the deadline passes first, the request fails, the slot is freed and
+     * the body is closed, which ends the blocked read.
+     */
+    private void readBody(HttpResponse<InputStream> response, Consumer<String> onLine, CompletableFuture<String> result) {
+        InputStream body = response.body();
+        AtomicBoolean finished = new AtomicBoolean();
+        ScheduledFuture<?> deadline = deadlines.schedule(() -> {
+            if (finished.compareAndSet(false, true)) {
+                result.completeExceptionally(new HttpTimeoutException("Response not read within " + timeout.toSeconds() + "s"));
+                release();
+                closeQuietly(body);
+            }
+        }, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        // Already on a virtual thread, so reading the stream here is fine
+        try (InputStream in = body) {
+            String text = readResponse(response, in, line -> {
+                if (!finished.get()) {
+                    onLine.accept(line);
+                }
             });
+            if (finished.compareAndSet(false, true)) {
+                result.complete(text);
+                release();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (finished.compareAndSet(false, true)) {
+                result.completeExceptionally(e);
+                release();
+            }
+        } finally {
+            deadline.cancel(false);
+        }
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // The request has already failed
+        }
+    }
+
+    /**
+     * Read a streamed (server-sent events) or plain JSON response, passing on lines as they complete.
+     */
+    private static String readResponse(HttpResponse<InputStream> response, InputStream body,
+                                       Consumer<String> onLine) throws IOException {
+        LineSplitter lines = new LineSplitter(onLine);
+        Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8);
+        boolean streamed = response.headers().firstValue("Content-Type")
+            .map(type -> type.startsWith("text/event-stream"))
+            .orElse(false);
+
+        if (!streamed) {
+            // The server ignored "stream"; the content is read without building a tree
+            lines.append(readContent(new JsonReader(reader), "message"));
+            return lines.finish();
+        }
+
+        BufferedReader events = new BufferedReader(reader);
+        String line;
+        while ((line = events.readLine()) != null) {
+            if (!line.startsWith(SSE_DATA)) continue;
+            String data = line.substring(SSE_DATA.length()).trim();
+            if (data.equals(SSE_DONE)) break;
+            if (data.isEmpty()) continue;
+            lines.append(readContent(new JsonReader(new StringReader(data)), "delta"));
+        }
+        return lines.finish();
+    }
+
+    /**
+     * Pull {@code choices[0].<field>.content} out of a response or stream chunk.
+     *
+     * @param field "message" for a whole response, "delta" for a stream chunk
+     * @return The content, or an empty string if the object has none
+     */
+    private static String readContent(JsonReader json, String field) throws IOException {
+        String content = "";
+        json.beginObject();
+        while (json.hasNext()) {
+            if (!json.nextName().equals("choices")) {
+                json.skipValue();
+                continue;
+            }
+            json.beginArray();
+            boolean first = true;
+            while (json.hasNext()) {
+                if (!first) {
+                    json.skipValue();
+                    continue;
+                }
+                first = false;
+                json.beginObject();
+                while (json.hasNext()) {
+                    if (!json.nextName().equals(field)) {
+                        json.skipValue();
+                        continue;
+                    }
+                    json.beginObject();
+                    while (json.hasNext()) {
+                        if (json.nextName().equals("content") && json.peek() == JsonToken.STRING) {
+                            content = json.nextString();
+                        } else {
+                            json.skipValue();
+                        }
+                    }
+                    json.endObject();
+                }
+                json.endObject();
+            }
+            json.endArray();
+        }
+        json.endObject();
+        return content;
+    }
+
+    /**
+     * Drain an error response. If the request is not retried, fail it with the start of the body.
+     */
+    private static void discard(InputStream body, CompletableFuture<String> result, int statusCode) {
+        String text = "";
+        try (InputStream in = body) {
+            byte[] bytes = in.readNBytes(MAX_ERROR_BODY);
+            text = new String(bytes, StandardCharsets.UTF_8);
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException ignored) {
+            // The status code is enough to report
+        }
+        if (result != null) {
+            result.completeExceptionally(new IOException("ChatGPT API Error: " + statusCode + " - " + text));
+        }
+    }
+
+    /**
+     * Run a request now if a slot is free, otherwise once one frees up.
+     */
+    private void runLimited(Runnable request) {
+        synchronized (this) {
+            if (active >= maxConcurrent) {
+                waiting.add(request);
+                return;
+            }
+            active++;
+        }
+        request.run();
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                active--;
+                return;
+            }
+        }
+        // The slot passes straight to the next request
+        next.run();
     }
 
     /**
@@ -115,4 +416,34 @@ public class ChatGPTClient {
             throw new RuntimeException("Failed to get response from ChatGPT", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Collects streamed text and hands on each line once its newline arrives.
+     */
+    private static final class LineSplitter {
+        private final Consumer<String> onLine;
+        private final StringBuilder all = new StringBuilder();
+        private int lineStart;
+
+        private LineSplitter(Consumer<String> onLine) {
+            this.onLine = onLine;
+        }
+
+        private void append(String text) {
+            all.append(text);
+            int newline;
+            while ((newline = all.indexOf("\n", lineStart)) >= 0) {
+                onLine.accept(all.substring(lineStart, newline));
+                lineStart = newline + 1;
+            }
+        }
+
+        private String finish() {
+            if (lineStart < all.length()) {
+                onLine.accept(all.substring(lineStart));
+                lineStart = all.length();
+            }
+            return all.toString().trim();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.icanthink.minigameManager.utils;
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Turns a prompt into Minecraft commands, one per line.
+ */
+public interface CommandGenerator {
+
+    /**
+     * Generate commands for a prompt.
+     *
+     * @param prompt The prompt describing what the commands should do
+     * @return A future with the commands, one per line
+     */
+    CompletableFuture<String> generate(String prompt);
+
+    /**
+     * Generate commands for a prompt, handing on each line as soon as it is known.
+     * Generators that cannot stream pass on all lines once the whole response is in.
+     *
+     * @param prompt The prompt describing what the commands should do
+     * @param onLine Called with each line of the response, possibly on a background thread
+     * @return A future with the whole response
+     */
+    default CompletableFuture<String> generate(String prompt, Consumer<String> onLine) {
+        return generate(prompt).thenApply(response -> {
+            response.lines().forEach(onLine);
+            return response;
+        });
+    }
+
+    /**
+     * Create the generator configured under {@code openai.*}, with the response cache in front of it.
+     *
+     * @param config The plugin configuration
+     * @return The configured generator
+     */
+    static CommandGenerator fromConfig(FileConfiguration config) {
+        String backend = config.getString("openai.backend", "openai");
+        CommandGenerator generator = "local".equalsIgnoreCase(backend)
+            ? new LocalCommandGenerator()
+            : new ChatGPTClient(config);
+
+        int cacheSize = config.getInt("openai.cache_size", 128);
+        return cacheSize > 0 ? new CachingCommandGenerator(generator, cacheSize) : generator;
+    }
+}
@@ -0,0 +1,43 @@
+package org.icanthink.minigameManager.utils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Generates commands without any network access, for tests and offline servers.
+ * The same prompt always gives the same commands.
+ */
+public class LocalCommandGenerator implements CommandGenerator {
+    private static final List<String> COMMANDS = List.of(
+        "weather thunder",
+        "time set night",
+        "say The wish backfires!",
+        "difficulty hard",
+        "weather rain",
+        "say Be careful what you wish for..."
+    );
+    private static final int COMMANDS_PER_RESPONSE = 2;
+
+    @Override
+    public CompletableFuture<String> generate(String prompt) {
+        return CompletableFuture.completedFuture(respond(prompt));
+    }
+
+    /**
+     * Get the commands for a prompt.
+     *
+     * @param prompt The prompt
+     * @return The commands, one per line
+     */
+    public String respond(String prompt) {
+        int start = Math.floorMod(prompt.hashCode(), COMMANDS.size());
+        StringBuilder response = new StringBuilder();
+        for (int i = 0; i < COMMANDS_PER_RESPONSE; i++) {
+            if (i > 0) {
+                response.append('\n');
+            }
+            response.append(COMMANDS.get((start + i) % COMMANDS.size()));
+        }
+        return response.toString();
+    }
+}
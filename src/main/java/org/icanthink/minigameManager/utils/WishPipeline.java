@@ -0,0 +1,398 @@
+package org.icanthink.minigameManager.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Turns wishes typed in chat into commands, with bounded work in flight.
+ * Players waiting to type a wish are kept in a map read by a single chat listener. Wishes wait in a
+ * bounded queue, and only a few requests run at once overall and per player. Responses are streamed:
+ * commands run on the main thread as soon as their line arrives, with lines that arrive together
+ * dispatched in one batch.
+ */
+public class WishPipeline implements Listener {
+    private static final long PENDING_TIMEOUT_MS = 60_000; // How long a player has to type their wish
+
+    private final Plugin plugin;
+    private final CommandGenerator generator;
+    private final int maxQueued;
+    private final int maxConcurrent;
+    private final int maxPerPlayer;
+    private final int maxCommands;
+    private volatile boolean shutdown;
+
+    // Written on the main thread, read by the async chat thread
+    private final Map<UUID, Long> pendingInput = new ConcurrentHashMap<>();
+
+    // Guarded by this
+    private final ArrayDeque<Wish> queue = new ArrayDeque<>();
+    private final Map<UUID, Integer> perPlayer = new HashMap<>();
+    private int inFlight;
+    private long completed;
+    private long failed;
+    private long rejected;
+    private long totalWaitMillis;
+    private long totalFirstCommandMillis;
+    private long firstCommands;
+    private long totalLatencyMillis;
+    private long maxLatencyMillis;
+
+    public WishPipeline(Plugin plugin, FileConfiguration config) {
+        this.plugin = plugin;
+        this.generator = CommandGenerator.fromConfig(config);
+        this.maxQueued = Math.max(1, config.getInt("wishes.max_queued", 16));
+        this.maxConcurrent = Math.max(1, config.getInt("wishes.max_concurrent", 2));
+        this.maxPerPlayer = Math.max(1, config.getInt("wishes.max_per_player", 1));
+        this.maxCommands = Math.max(1, config.getInt("wishes.max_commands", 5));
+    }
+
+    /**
+     * Take the player's next chat message as a wish.
+     *
+     * @param player The player making a wish
+     */
+    public void awaitWish(Player player) {
+        pendingInput.put(player.getUniqueId(), System.currentTimeMillis());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onPlayerChat(AsyncPlayerChatEvent event) {
+        Player player = event.getPlayer();
+        Long since = pendingInput.remove(player.getUniqueId());
+        if (shutdown || since == null || System.currentTimeMillis() - since > PENDING_TIMEOUT_MS) return;
+
+        event.setCancelled(true);
+        String wish = event.getMessage();
+
+        // Player state has to be read on the main thread
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (player.isOnline()) {
+                submit(player, wish);
+            }
+        });
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        pendingInput.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Queue a wish. Must be called on the main thread.
+     *
+     * @param player The player making the wish
+     * @param wish What the player wished for
+     * @return true if the wish was queued, false if the player or the server is at its limit
+     */
+    public boolean submit(Player player, String wish) {
+        Wish job = new Wish(player.getUniqueId(), buildPrompt(wish), System.currentTimeMillis());
+
+        synchronized (this) {
+            int ownWishes = perPlayer.getOrDefault(job.playerId, 0);
+            if (ownWishes >= maxPerPlayer) {
+                rejected++;
+                player.sendMessage(ChatColor.RED + "* Your last wish is still being granted!");
+                return false;
+            }
+            if (queue.size() >= maxQueued) {
+                rejected++;
+                player.sendMessage(ChatColor.RED + "* Too many wishes are being made right now, try again later!");
+                return false;
+            }
+            perPlayer.put(job.playerId, ownWishes + 1);
+            queue.add(job);
+        }
+
+        player.sendMessage(ChatColor.GOLD + "* Processing your wish: " + ChatColor.WHITE + wish);
+        drain();
+        return true;
+    }
+
+    /**
+     * Stop the generator's threads and drop wishes still waiting or running.
+     * Called when the plugin is disabled, after which no tasks may be scheduled for it.
+     */
+    public void shutdown() {
+        shutdown = true;
+        synchronized (this) {
+            queue.clear();
+        }
+
+        CommandGenerator target = generator instanceof CachingCommandGenerator cache ? cache.getDelegate() : generator;
+        if (target instanceof ChatGPTClient client) {
+            client.shutdown();
+        }
+    }
+
+    /**
+     * Get the generator wishes are sent to.
+     *
+     * @return The command generator
+     */
+    public CommandGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Get the number of wishes waiting for a free request slot.
+     *
+     * @return The queue depth
+     */
+    public synchronized int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * Get the number of wishes waiting for a response.
+     *
+     * @return The in-flight request count
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    /**
+     * Get the number of wishes that were granted.
+     *
+     * @return The completed wish count
+     */
+    public synchronized long getCompletedCount() {
+        return completed;
+    }
+
+    /**
+     * Get the number of wishes whose request failed.
+     *
+     * @return The failed wish count
+     */
+    public synchronized long getFailedCount() {
+        return failed;
+    }
+
+    /**
+     * Get the number of wishes turned away because a limit was reached.
+     *
+     * @return The rejected wish count
+     */
+    public synchronized long getRejectedCount() {
+        return rejected;
+    }
+
+    /**
+     * Get the average time wishes spent in the queue before their request started.
+     *
+     * @return The average queue wait in milliseconds
+     */
+    public synchronized double getAverageWaitMillis() {
+        long finished = completed + failed;
+        return finished == 0 ? 0 : (double) totalWaitMillis / finished;
+    }
+
+    /**
+     * Get the average time from a wish being queued to its first command running.
+     *
+     * @return The average time to the first command in milliseconds
+     */
+    public synchronized double getAverageFirstCommandMillis() {
+        return firstCommands == 0 ? 0 : (double) totalFirstCommandMillis / firstCommands;
+    }
+
+    /**
+     * Get the average time from a wish being queued to its last command running.
+     *
+     * @return The average latency in milliseconds
+     */
+    public synchronized double getAverageLatencyMillis() {
+        return completed == 0 ? 0 : (double) totalLatencyMillis / completed;
+    }
+
+    /**
+     * Get the longest time from a wish being queued to its last command running.
+     *
+     * @return The maximum latency in milliseconds
+     */
+    public synchronized long getMaxLatencyMillis() {
+        return maxLatencyMillis;
+    }
+
+    /**
+     * Start queued wishes while there are free request slots.
+     */
+    private void drain() {
+        if (shutdown) return;
+
+        List<Wish> started = new ArrayList<>();
+        synchronized (this) {
+            while (inFlight < maxConcurrent && !queue.isEmpty()) {
+                Wish job = queue.poll();
+                job.startedAt = System.currentTimeMillis();
+                inFlight++;
+                started.add(job);
+            }
+        }
+
+        for (Wish job : started) {
+            CompletableFuture<String> request;
+            try {
+                request = generator.generate(job.prompt, line -> accept(job, line));
+            } catch (RuntimeException e) {
+                // Handled like a failed request, so the slot and the player's count are released
+                request = CompletableFuture.failedFuture(e);
+            }
+            request.whenComplete((response, error) -> {
+                synchronized (this) {
+                    inFlight--;
+                    totalWaitMillis += job.startedAt - job.queuedAt;
+                    if (error != null) {
+                        failed++;
+                        release(job.playerId);
+                    }
+                }
+                drain();
+                if (shutdown) return;
+
+                if (error != null) {
+                    plugin.getLogger().log(Level.WARNING, "Wish request failed", error);
+                    Bukkit.getScheduler().runTask(plugin, () -> {
+                        Player player = Bukkit.getPlayer(job.playerId);
+                        if (player != null) {
+                            player.sendMessage(ChatColor.RED + "* Sorry, I couldn't process your wish right now!");
+                        }
+                    });
+                    return;
+                }
+
+                Bukkit.getScheduler().runTask(plugin, () -> finish(job));
+            });
+        }
+    }
+
+    /**
+     * Take one streamed line of a response. Runs on the generator's thread.
+     */
+    private void accept(Wish job, String line) {
+        String command = line.trim();
+        if (command.startsWith("/")) {
+            command = command.substring(1);
+        }
+        if (shutdown || command.isEmpty() || job.accepted >= maxCommands) return;
+        job.accepted++;
+        job.commands.add(command);
+
+        // Lines that arrive before the main thread gets to them run in the same batch
+        if (job.flushScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin, () -> flush(job));
+        }
+    }
+
+    /**
+     * Run the commands that have arrived so far. Runs on the main thread.
+     */
+    private void flush(Wish job) {
+        job.flushScheduled.set(false);
+        Player player = Bukkit.getPlayer(job.playerId);
+        if (player == null) {
+            job.commands.clear();
+            return;
+        }
+        if (job.commands.isEmpty()) return;
+
+        if (!job.announced) {
+            job.announced = true;
+            synchronized (this) {
+                totalFirstCommandMillis += System.currentTimeMillis() - job.queuedAt;
+                firstCommands++;
+            }
+            player.sendMessage(ChatColor.GOLD + "* Your wish is my command!");
+        }
+
+        // Execute every command as and at the player, so @s and ~ refer to them
+        String command;
+        while ((command = job.commands.poll()) != null) {
+            Bukkit.dispatchCommand(Bukkit.getConsoleSender(),
+                String.format("execute as %s at @s run %s", player.getUniqueId(), command));
+        }
+    }
+
+    /**
+     * Run anything left of a finished response and record it. Runs on the main thread.
+     */
+    private void finish(Wish job) {
+        flush(job);
+
+        long latency = System.currentTimeMillis() - job.queuedAt;
+        synchronized (this) {
+            completed++;
+            totalLatencyMillis += latency;
+            maxLatencyMillis = Math.max(maxLatencyMillis, latency);
+            release(job.playerId);
+        }
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private void release(UUID playerId) {
+        perPlayer.computeIfPresent(playerId, (id, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Build the prompt for a wish. It holds nothing about the player, so the same wish gives the same
+     * prompt for everyone and can be answered from the response cache.
+     */
+    private static String buildPrompt(String wish) {
+        return String.format(
+            "You are an evil Minecraft command generator. A player has made the following wish: '%s'. " +
+            "The commands run as and at the player: target them with @s and use coordinates relative to them (~ ~ ~). " +
+            "Respond ONLY with Minecraft commands (one per line) that would help fulfill this wish. " +
+            "Use only vanilla Minecraft commands. Each command should be executable by an operator. " +
+            "Keep the response under 5 commands. Don't include any explanations, just the commands. " +
+            "Fulfill the wish as best as possible, but try to make the effects of the wish harmful to the player. " +
+            "Do not give the player anything too overpowered. The wish should always do more bad than good. " +
+            "Don't just give random bad effects, make the harmful effects a result of the wish.",
+            wish.trim()
+        );
+    }
+
+    /**
+     * A wish waiting for or running its request.
+     */
+    private static final class Wish {
+        private final UUID playerId;
+        private final String prompt;
+        private final long queuedAt;
+        private long startedAt;
+        // Filled by the generator's thread, drained on the main thread
+        private final Queue<String> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+        private int accepted;
+        private boolean announced;
+
+        private Wish(UUID playerId, String prompt, long queuedAt) {
+            this.playerId = playerId;
+            this.prompt = prompt;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
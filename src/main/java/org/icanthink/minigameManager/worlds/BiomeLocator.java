@@ -0,0 +1,238 @@
+package org.icanthink.minigameManager.worlds;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.generator.BiomeProvider;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.util.BiomeSearchResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Finds the nearest biome of a kind without loading or generating chunks.
+ * Searches sample the world's vanilla biome noise on a background thread. Every biome found is
+ * remembered per world in a coarse grid, so later searches nearby are answered from the cache.
+ */
+public class BiomeLocator {
+    private static final int SAMPLE_SPACING = 64; // Blocks between biome samples
+    private static final int SAMPLE_Y = 64;
+    private static final int VERTICAL_SPACING = 64; // Only used by the server-side fallback search
+    private static final int CELL_SHIFT = 9; // 512-block cells in the anchor grid
+    private static final int REUSE_DISTANCE = 1024; // Cached anchors this close are returned without searching
+
+    private final ExecutorService executor;
+    private final Executor mainThread;
+    // Only touched on the main thread
+    private final Map<UUID, Map<String, AnchorGrid>> anchors = new HashMap<>();
+
+    public BiomeLocator(Plugin plugin) {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MinigameManager-BiomeLocator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.mainThread = runnable -> Bukkit.getScheduler().runTask(plugin, runnable);
+    }
+
+    /**
+     * Find the nearest location in one of the given biomes. Must be called on the main thread;
+     * the returned future also completes on the main thread.
+     *
+     * @param origin Where to search from
+     * @param maxRadius Maximum search radius in blocks
+     * @param cacheKey Name of the biome group, used to share cached results between searches
+     * @param biomes The biomes to look for
+     * @return A future with the location found, or null if there is none within range
+     */
+    public CompletableFuture<Location> findNearest(Location origin, int maxRadius, String cacheKey, Set<Biome> biomes) {
+        World world = origin.getWorld();
+        int originX = origin.getBlockX();
+        int originZ = origin.getBlockZ();
+        AnchorGrid grid = anchors.computeIfAbsent(world.getUID(), id -> new HashMap<>())
+            .computeIfAbsent(cacheKey, key -> new AnchorGrid());
+
+        long[] cached = grid.nearest(originX, originZ, maxRadius);
+        if (cached != null && distance(cached, originX, originZ) <= REUSE_DISTANCE) {
+            return CompletableFuture.completedFuture(toLocation(world, cached));
+        }
+
+        // A cached anchor bounds the search; nothing further away can be nearer
+        int searchRadius = cached == null ? maxRadius : (int) Math.ceil(distance(cached, originX, originZ));
+
+        BiomeProvider provider;
+        try {
+            provider = world.vanillaBiomeProvider();
+        } catch (UnsupportedOperationException e) {
+            provider = null;
+        }
+
+        CompletableFuture<long[]> search;
+        if (provider != null) {
+            BiomeProvider noise = provider;
+            search = CompletableFuture.supplyAsync(
+                () -> searchNoise(world, noise, originX, originZ, searchRadius, biomes), executor);
+        } else {
+            // Custom generators: fall back to the server's own search, which also samples noise only
+            search = CompletableFuture.completedFuture(searchServer(origin, searchRadius, biomes));
+        }
+
+        return search.thenApplyAsync(found -> {
+            if (found != null) {
+                grid.add(found[0], found[1]);
+                return toLocation(world, found);
+            }
+            return cached == null ? null : toLocation(world, cached);
+        }, mainThread);
+    }
+
+    /**
+     * Forget everything cached for a world, e.g. when it is deleted.
+     *
+     * @param world The world
+     */
+    public void forgetWorld(World world) {
+        anchors.remove(world.getUID());
+    }
+
+    /**
+     * Stop the background search thread.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Walk square rings outwards from the origin, sampling the biome noise on a grid.
+     * The vanilla biome provider is a pure function of the world seed, so it is safe to sample here.
+     */
+    private static long[] searchNoise(World world, BiomeProvider provider, int originX, int originZ,
+                                      int radius, Set<Biome> biomes) {
+        RingSearch search = new RingSearch(world, provider, biomes, originX, originZ);
+        search.sample(originX, originZ);
+        if (search.best != null) return search.best;
+
+        for (int ring = SAMPLE_SPACING; ring <= radius; ring += SAMPLE_SPACING) {
+            for (int offset = -ring; offset <= ring; offset += SAMPLE_SPACING) {
+                search.sample(originX + offset, originZ - ring);
+                search.sample(originX + offset, originZ + ring);
+                if (Math.abs(offset) != ring) {
+                    search.sample(originX - ring, originZ + offset);
+                    search.sample(originX + ring, originZ + offset);
+                }
+            }
+            // Stop at the first ring with a match
+            if (search.best != null) return search.best;
+        }
+        return null;
+    }
+
+    private static long[] searchServer(Location origin, int radius, Set<Biome> biomes) {
+        BiomeSearchResult result = origin.getWorld().locateNearestBiome(
+            origin, radius, SAMPLE_SPACING, VERTICAL_SPACING, biomes.toArray(new Biome[0]));
+        if (result == null) return null;
+        Location location = result.getLocation();
+        return new long[] {location.getBlockX(), location.getBlockZ()};
+    }
+
+    private static double distance(long[] point, int x, int z) {
+        return Math.hypot(point[0] - x, point[1] - z);
+    }
+
+    private static Location toLocation(World world, long[] point) {
+        return new Location(world, point[0] + 0.5, SAMPLE_Y, point[1] + 0.5);
+    }
+
+    /**
+     * Keeps the closest matching sample of the current ring.
+     */
+    private static final class RingSearch {
+        private final World world;
+        private final BiomeProvider provider;
+        private final Set<Biome> biomes;
+        private final int originX;
+        private final int originZ;
+        private long[] best;
+        private double bestDistance = Double.MAX_VALUE;
+
+        private RingSearch(World world, BiomeProvider provider, Set<Biome> biomes, int originX, int originZ) {
+            this.world = world;
+            this.provider = provider;
+            this.biomes = biomes;
+            this.originX = originX;
+            this.originZ = originZ;
+        }
+
+        private void sample(int x, int z) {
+            if (!biomes.contains(provider.getBiome(world, x, SAMPLE_Y, z))) return;
+
+            double d = Math.hypot(x - originX, z - originZ);
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = new long[] {x, z};
+            }
+        }
+    }
+
+    /**
+     * Points where a biome was found, bucketed into 512-block cells.
+     */
+    private static final class AnchorGrid {
+        private final Map<Long, List<long[]>> cells = new HashMap<>();
+        private int count;
+
+        private void add(long x, long z) {
+            cells.computeIfAbsent(cellKey((int) x >> CELL_SHIFT, (int) z >> CELL_SHIFT), key -> new ArrayList<>())
+                .add(new long[] {x, z});
+            count++;
+        }
+
+        /**
+         * Get the nearest anchor within a radius, checking cells in rings around the origin.
+         */
+        private long[] nearest(int x, int z, int radius) {
+            if (count == 0) return null;
+
+            int cellX = x >> CELL_SHIFT;
+            int cellZ = z >> CELL_SHIFT;
+            int maxRing = (radius >> CELL_SHIFT) + 1;
+            long[] best = null;
+            double bestDistance = radius;
+
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // Once a hit is closer than anything further rings can hold, stop
+                if (best != null && bestDistance <= (double) (ring - 1) * (1 << CELL_SHIFT)) break;
+
+                for (int dx = -ring; dx <= ring; dx++) {
+                    for (int dz = -ring; dz <= ring; dz++) {
+                        if (Math.abs(dx) != ring && Math.abs(dz) != ring) continue;
+                        List<long[]> cell = cells.get(cellKey(cellX + dx, cellZ + dz));
+                        if (cell == null) continue;
+                        for (long[] point : cell) {
+                            double d = distance(point, x, z);
+                            if (d <= bestDistance) {
+                                bestDistance = d;
+                                best = point;
+                            }
+                        }
+                    }
+                }
+            }
+            return best;
+        }
+
+        private static long cellKey(int cellX, int cellZ) {
+            return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package org.icanthink.minigameManager.worlds;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Finds safe spots to put a player without blocking the main thread.
+ * Chunks are loaded with {@link World#getChunkAtAsync}, copied into snapshots on the main thread
+ * and scanned on a background thread.
+ */
+public class SafeLocationService {
+    private static final int MAX_RADIUS = 32; // Keeps a search to at most 6x6 chunks
+    private static final Set<Material> DANGEROUS = EnumSet.of(
+        Material.LAVA, Material.FIRE, Material.SOUL_FIRE, Material.CAMPFIRE, Material.SOUL_CAMPFIRE,
+        Material.MAGMA_BLOCK, Material.CACTUS, Material.SWEET_BERRY_BUSH, Material.WITHER_ROSE,
+        Material.POWDER_SNOW, Material.POINTED_DRIPSTONE
+    );
+
+    // Indexed by material ordinal, so a scan never has to ask a Material anything
+    private static final BitSet DANGER_BITS = new BitSet();
+    private static final BitSet FLOOR_BITS = new BitSet();
+    private static final BitSet PASSABLE_BITS = new BitSet();
+
+    static {
+        for (Material material : Material.values()) {
+            if (material.isLegacy() || !material.isBlock()) continue;
+            int index = material.ordinal();
+            if (DANGEROUS.contains(material)) {
+                DANGER_BITS.set(index);
+            } else if (material.isSolid()) {
+                FLOOR_BITS.set(index);
+            } else if (material != Material.WATER) {
+                PASSABLE_BITS.set(index);
+            }
+        }
+    }
+
+    private final ExecutorService executor;
+    private final Executor mainThread;
+
+    public SafeLocationService(Plugin plugin) {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MinigameManager-SafeLocation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.mainThread = runnable -> Bukkit.getScheduler().runTask(plugin, runnable);
+    }
+
+    /**
+     * Find the safe surface spot closest to a location. Must be called on the main thread;
+     * the returned future also completes on the main thread.
+     *
+     * @param center Where to search around
+     * @param radius Horizontal search radius in blocks (at most 32)
+     * @return A future with the spot to stand on, or null if there is none within range
+     */
+    public CompletableFuture<Location> findSurface(Location center, int radius) {
+        return find(center, radius, -1);
+    }
+
+    /**
+     * Find the safe spot closest to a location at about the same height, e.g. inside a cave.
+     * Must be called on the main thread; the returned future also completes on the main thread.
+     *
+     * @param center Where to search around
+     * @param radius Horizontal search radius in blocks (at most 32)
+     * @param verticalRange How many blocks above or below the center to check
+     * @return A future with the spot to stand on, or null if there is none within range
+     */
+    public CompletableFuture<Location> findNear(Location center, int radius, int verticalRange) {
+        return find(center, radius, Math.max(0, verticalRange));
+    }
+
+    /**
+     * Stop the background scan thread.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @param verticalRange Blocks to check above and below the center, or -1 to use the surface
+     */
+    private CompletableFuture<Location> find(Location center, int radius, int verticalRange) {
+        World world = center.getWorld();
+        int range = Math.min(Math.max(radius, 0), MAX_RADIUS);
+        int centerX = center.getBlockX();
+        int centerY = center.getBlockY();
+        int centerZ = center.getBlockZ();
+
+        // One extra block around the search area for the danger check
+        int minChunkX = (centerX - range - 1) >> 4;
+        int minChunkZ = (centerZ - range - 1) >> 4;
+        int maxChunkX = (centerX + range + 1) >> 4;
+        int maxChunkZ = (centerZ + range + 1) >> 4;
+
+        List<CompletableFuture<Chunk>> loads = new ArrayList<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                loads.add(world.getChunkAtAsync(chunkX, chunkZ));
+            }
+        }
+
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]))
+            // Chunk futures complete on the main thread, where snapshots have to be taken
+            .thenApply(ignored -> {
+                Snapshots snapshots = new Snapshots(world, minChunkX, minChunkZ, maxChunkX, maxChunkZ);
+                for (CompletableFuture<Chunk> load : loads) {
+                    snapshots.add(load.join().getChunkSnapshot(true, false, false));
+                }
+                return snapshots;
+            })
+            .thenApplyAsync(snapshots -> scan(snapshots, centerX, centerY, centerZ, range, verticalRange), executor)
+            .thenApplyAsync(spot -> {
+                if (spot == null) return null;
+                return new Location(world, spot[0] + 0.5, spot[1], spot[2] + 0.5, center.getYaw(), center.getPitch());
+            }, mainThread);
+    }
+
+    /**
+     * Walk square rings of columns outwards from the center and return the first safe spot.
+     */
+    private static int[] scan(Snapshots snapshots, int centerX, int centerY, int centerZ, int radius, int verticalRange) {
+        for (int ring = 0; ring <= radius; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.abs(dx) != ring && Math.abs(dz) != ring) continue;
+
+                    int x = centerX + dx;
+                    int z = centerZ + dz;
+                    if (verticalRange < 0) {
+                        int y = snapshots.highestBlockY(x, z) + 1;
+                        if (snapshots.isSafe(x, y, z)) return new int[] {x, y, z};
+                        continue;
+                    }
+
+                    // Nearest heights first: 0, -1, +1, -2, +2, ...
+                    for (int step = 0; step <= verticalRange * 2; step++) {
+                        int y = centerY + ((step & 1) == 0 ? step / 2 : -(step + 1) / 2);
+                        if (snapshots.isSafe(x, y, z)) return new int[] {x, y, z};
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The chunk snapshots covering a search area, addressed by block coordinates.
+     */
+    private static final class Snapshots {
+        private final int minHeight;
+        private final int maxHeight;
+        private final int minChunkX;
+        private final int minChunkZ;
+        private final int width;
+        private final ChunkSnapshot[] chunks;
+
+        private Snapshots(World world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+            this.minHeight = world.getMinHeight();
+            this.maxHeight = world.getMaxHeight();
+            this.minChunkX = minChunkX;
+            this.minChunkZ = minChunkZ;
+            this.width = maxChunkX - minChunkX + 1;
+            this.chunks = new ChunkSnapshot[width * (maxChunkZ - minChunkZ + 1)];
+        }
+
+        private void add(ChunkSnapshot snapshot) {
+            chunks[(snapshot.getZ() - minChunkZ) * width + (snapshot.getX() - minChunkX)] = snapshot;
+        }
+
+        private ChunkSnapshot chunk(int x, int z) {
+            int chunkX = (x >> 4) - minChunkX;
+            int chunkZ = (z >> 4) - minChunkZ;
+            if (chunkX < 0 || chunkZ < 0 || chunkX >= width) return null;
+            int index = chunkZ * width + chunkX;
+            return index < chunks.length ? chunks[index] : null;
+        }
+
+        private int highestBlockY(int x, int z) {
+            ChunkSnapshot chunk = chunk(x, z);
+            return chunk == null ? minHeight : chunk.getHighestBlockYAt(x & 15, z & 15);
+        }
+
+        /**
+         * Get a block's material ordinal, or -1 outside the loaded area.
+         */
+        private int type(int x, int y, int z) {
+            if (y < minHeight || y >= maxHeight) return -1;
+            ChunkSnapshot chunk = chunk(x, z);
+            return chunk == null ? -1 : chunk.getBlockType(x & 15, y, z & 15).ordinal();
+        }
+
+        /**
+         * Check for a solid floor, room for a player and nothing dangerous next to them.
+         */
+        private boolean isSafe(int x, int y, int z) {
+            if (y - 1 < minHeight || y + 1 >= maxHeight) return false;
+            if (!is(FLOOR_BITS, type(x, y - 1, z))) return false;
+            if (!is(PASSABLE_BITS, type(x, y, z))) return false;
+            if (!is(PASSABLE_BITS, type(x, y + 1, z))) return false;
+
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        if (is(DANGER_BITS, type(x + dx, y + dy, z + dz))) return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean is(BitSet bits, int type) {
+            return type >= 0 && bits.get(type);
+        }
+    }
+}
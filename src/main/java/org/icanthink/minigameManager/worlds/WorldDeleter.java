@@ -0,0 +1,176 @@
+package org.icanthink.minigameManager.worlds;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Deletes unloaded game world folders on a background I/O thread.
+ * Pending deletions are recorded in a tombstone file in the plugin folder, so folders left behind
+ * by a crash or a shutdown are picked up again the next time the plugin starts.
+ */
+public class WorldDeleter {
+    private static final String TOMBSTONE_FILE = "pending-world-deletions.txt";
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long RETRY_DELAY_SECONDS = 2L; // Doubled after each failed attempt
+    private static final long SHUTDOWN_WAIT_SECONDS = 5L;
+
+    private final Plugin plugin;
+    private final Path worldContainer;
+    private final Path tombstoneFile;
+    private final Set<Path> pending = new LinkedHashSet<>();
+    private final ScheduledExecutorService executor;
+
+    public WorldDeleter(Plugin plugin) {
+        this.plugin = plugin;
+        this.worldContainer = Bukkit.getWorldContainer().toPath().toAbsolutePath().normalize();
+        this.tombstoneFile = plugin.getDataFolder().toPath().resolve(TOMBSTONE_FILE);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MinigameManager-WorldDeleter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queue the deletions recorded by a previous run.
+     */
+    public void resumePending() {
+        if (Files.notExists(tombstoneFile)) return;
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(tombstoneFile, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not read " + TOMBSTONE_FILE, e);
+            return;
+        }
+
+        for (String line : lines) {
+            if (line.isBlank()) continue;
+            Path folder = Path.of(line.trim());
+            if (isLoadedWorld(folder)) {
+                plugin.getLogger().warning("Not deleting " + folder + " because it is loaded as a world");
+                continue;
+            }
+            delete(folder);
+        }
+    }
+
+    /**
+     * Delete the folder of a world that has already been unloaded.
+     *
+     * @param folder The world folder
+     */
+    public void delete(Path folder) {
+        Path target = folder.toAbsolutePath().normalize();
+        if (!target.startsWith(worldContainer) || target.equals(worldContainer)) {
+            plugin.getLogger().warning("Refusing to delete " + target + " outside of the world container");
+            return;
+        }
+
+        synchronized (pending) {
+            if (!pending.add(target)) return;
+            writeTombstones();
+        }
+        if (executor.isShutdown()) {
+            // Shutting down; the tombstone makes the next start pick it up
+            return;
+        }
+        executor.execute(() -> attempt(target, 1));
+    }
+
+    /**
+     * Get the number of world folders waiting to be deleted.
+     *
+     * @return The pending deletion count
+     */
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Give running deletions a few seconds to finish. Anything left stays in the tombstone file.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void attempt(Path folder, int attempt) {
+        try {
+            WorldFiles.deleteRecursively(folder);
+        } catch (IOException e) {
+            if (attempt < MAX_ATTEMPTS && !executor.isShutdown()) {
+                // Region files can stay locked for a moment after the world unloads
+                long delay = RETRY_DELAY_SECONDS << (attempt - 1);
+                executor.schedule(() -> attempt(folder, attempt + 1), delay, TimeUnit.SECONDS);
+            } else {
+                plugin.getLogger().log(Level.WARNING, "Giving up on deleting " + folder
+                    + " for now; it will be retried on the next start", e);
+            }
+            return;
+        }
+
+        synchronized (pending) {
+            pending.remove(folder);
+            writeTombstones();
+        }
+    }
+
+    private boolean isLoadedWorld(Path folder) {
+        Path target = folder.toAbsolutePath().normalize();
+        for (World world : Bukkit.getWorlds()) {
+            if (world.getWorldFolder().toPath().toAbsolutePath().normalize().equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rewrite the tombstone file. Must be called while holding the pending lock.
+     */
+    private void writeTombstones() {
+        try {
+            if (pending.isEmpty()) {
+                Files.deleteIfExists(tombstoneFile);
+                return;
+            }
+
+            List<String> lines = new ArrayList<>();
+            for (Path path : pending) {
+                lines.add(path.toString());
+            }
+            Files.createDirectories(tombstoneFile.getParent());
+            Path temp = tombstoneFile.resolveSibling(TOMBSTONE_FILE + ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, tombstoneFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not write " + TOMBSTONE_FILE, e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.icanthink.minigameManager.worlds;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * File helpers for game world folders.
+ */
+public final class WorldFiles {
+
+    private WorldFiles() {
+    }
+
+    /**
+     * Recursively delete a directory. Files that disappear while walking are ignored.
+     *
+     * @param directory The directory to delete
+     * @throws IOException If a file or directory could not be deleted
+     */
+    public static void deleteRecursively(Path directory) throws IOException {
+        if (Files.notExists(directory)) return;
+
+        Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.deleteIfExists(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                if (exc instanceof NoSuchFileException) return FileVisitResult.CONTINUE;
+                throw exc;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                if (exc != null) throw exc;
+                Files.deleteIfExists(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+}
@@ -0,0 +1,429 @@
+package org.icanthink.minigameManager.worlds;
+
+import net.kyori.adventure.util.TriState;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.bukkit.WorldType;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.icanthink.minigameManager.MinigameManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+
+/**
+ * Keeps a small pool of game worlds that are already created and have their spawn area generated.
+ * Worlds are warmed in the background, only on ticks where the server has time to spare, using
+ * Paper's async chunk loading. Games take a ready world instantly and the pool refills afterwards.
+ * When a template is configured, pooled worlds are cloned from it on a background thread instead
+ * of being generated.
+ */
+public class WorldPool {
+    private static final double IDLE_TICK_MILLIS = 40.0; // Skip warm-up work when ticks are slower than this
+    private static final long CREATE_COOLDOWN_TICKS = 100L; // Minimum ticks between two world creations
+    private static final long STARTUP_DELAY_TICKS = 200L;
+    private static final int MAX_IN_FLIGHT_PER_RATE = 4; // Outstanding chunk requests per chunk-per-tick
+
+    private final Plugin plugin;
+    private final int size;
+    private final int pregenerationRadius;
+    private final int chunksPerTick;
+    private final WorldType worldType;
+    private final String templateName;
+    private final ExecutorService copyExecutor;
+
+    private final ArrayDeque<World> ready = new ArrayDeque<>();
+    private WarmingWorld warming;
+    private CompletableFuture<String> cloning;
+    private long cloningStartNanos;
+    private BukkitTask task;
+    private long ticksUntilCreate = STARTUP_DELAY_TICKS;
+
+    private long hits;
+    private long misses;
+    private long acquireNanosTotal;
+    private long acquireNanosMax;
+    private long warmedWorlds;
+    private long warmNanosTotal;
+
+    public WorldPool(Plugin plugin, FileConfiguration config) {
+        this.plugin = plugin;
+        this.size = Math.max(0, config.getInt("world_pool.size", 1));
+        this.pregenerationRadius = Math.max(0, config.getInt("world_pool.pregeneration_radius", 6));
+        this.chunksPerTick = Math.max(1, config.getInt("world_pool.chunks_per_tick", 2));
+        this.worldType = WorldType.NORMAL;
+        this.templateName = findTemplate(plugin, config.getString("world_pool.template", ""));
+        this.copyExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MinigameManager-WorldCopier");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static String findTemplate(Plugin plugin, String templateName) {
+        if (templateName == null || templateName.isEmpty()) return null;
+        try {
+            WorldTemplate.resolve(templateName);
+            return templateName;
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning(e.getMessage() + "; generating pooled worlds instead");
+            return null;
+        }
+    }
+
+    /**
+     * Start warming worlds in the background.
+     */
+    public void start() {
+        if (task == null && size > 0) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop warming and remove all pooled worlds that were never handed out.
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (warming != null) {
+            discard(warming.world);
+            warming = null;
+        }
+        if (cloning != null) {
+            // Let the copy finish and have its folder deleted
+            cloning.thenAccept(worldName -> MinigameManager.plugin.getWorldDeleter()
+                .delete(Bukkit.getWorldContainer().toPath().resolve(worldName)));
+            cloning = null;
+        }
+        copyExecutor.shutdown();
+        for (World world : ready) {
+            discard(world);
+        }
+        ready.clear();
+    }
+
+    /**
+     * Take a game world of the given type. Hands out a pooled world if one is ready,
+     * otherwise creates one on the spot.
+     *
+     * @param type The type of world to create
+     * @return The world, or null if it could not be created
+     */
+    public World acquire(WorldType type) {
+        long start = System.nanoTime();
+
+        World world = null;
+        if (type == worldType) {
+            Iterator<World> iterator = ready.iterator();
+            while (world == null && iterator.hasNext()) {
+                World candidate = iterator.next();
+                iterator.remove();
+                // Someone may have unloaded it behind our back
+                if (Bukkit.getWorld(candidate.getUID()) != null) {
+                    world = candidate;
+                }
+            }
+        }
+
+        if (world != null) {
+            hits++;
+        } else {
+            misses++;
+            world = templateName != null && type == worldType ? cloneTemplateNow() : createWorld(type);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        acquireNanosTotal += elapsed;
+        acquireNanosMax = Math.max(acquireNanosMax, elapsed);
+        return world;
+    }
+
+    /**
+     * Create a world with a random game world name, without waiting for its spawn area to generate.
+     *
+     * @param type The type of world to create
+     * @return The created world, or null if creation failed
+     */
+    public static World createWorld(WorldType type) {
+        return createWorld(newWorldName(), type);
+    }
+
+    /**
+     * Generate a random name for a game world.
+     *
+     * @return A world name that is not in use
+     */
+    public static String newWorldName() {
+        return "minigame_" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Create a world without waiting for its spawn area to generate.
+     *
+     * @param worldName The name of the world
+     * @param type The type of world to create
+     * @return The created world, or null if creation failed
+     */
+    public static World createWorld(String worldName, WorldType type) {
+        WorldCreator creator = new WorldCreator(worldName);
+        creator.type(type);
+        creator.generateStructures(true);
+        creator.keepSpawnLoaded(TriState.FALSE);
+        return creator.createWorld();
+    }
+
+    /**
+     * Get the number of ready worlds the pool tries to keep.
+     *
+     * @return The configured pool size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the number of worlds that are ready to hand out.
+     *
+     * @return The ready world count
+     */
+    public int getReadyCount() {
+        return ready.size();
+    }
+
+    /**
+     * Check if a world is currently being pregenerated or cloned.
+     *
+     * @return true if a world is warming
+     */
+    public boolean isWarming() {
+        return warming != null || cloning != null;
+    }
+
+    /**
+     * Get the template pooled worlds are cloned from.
+     *
+     * @return The template name, or null if worlds are generated
+     */
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    /**
+     * Get the progress of the world currently being warmed.
+     *
+     * @return Generated chunks out of the total, or null if nothing is warming
+     */
+    public String getWarmingProgress() {
+        if (cloning != null) return "cloning " + templateName;
+        return warming == null ? null : warming.completed + "/" + warming.total + " chunks";
+    }
+
+    /**
+     * Get the number of games that got a ready world from the pool.
+     *
+     * @return The hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of games that had to wait for a world to be created.
+     *
+     * @return The miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the average time a game waited for its world.
+     *
+     * @return Average acquire time in milliseconds
+     */
+    public double getAverageAcquireMillis() {
+        long count = hits + misses;
+        return count == 0 ? 0 : acquireNanosTotal / (double) count / 1_000_000.0;
+    }
+
+    /**
+     * Get the longest time a game waited for its world.
+     *
+     * @return Maximum acquire time in milliseconds
+     */
+    public double getMaxAcquireMillis() {
+        return acquireNanosMax / 1_000_000.0;
+    }
+
+    /**
+     * Get the average time from creating a pooled world to it being ready.
+     *
+     * @return Average warm-up time in milliseconds
+     */
+    public double getAverageWarmMillis() {
+        return warmedWorlds == 0 ? 0 : warmNanosTotal / (double) warmedWorlds / 1_000_000.0;
+    }
+
+    private void tick() {
+        if (ticksUntilCreate > 0) {
+            ticksUntilCreate--;
+        }
+        if (Bukkit.getServer().getAverageTickTime() > IDLE_TICK_MILLIS) return;
+
+        if (warming != null) {
+            warming.requestChunks();
+            if (warming.isDone()) {
+                warmNanosTotal += System.nanoTime() - warming.startNanos;
+                warmedWorlds++;
+                ready.add(warming.world);
+                warming = null;
+            }
+            return;
+        }
+
+        if (cloning != null) {
+            if (cloning.isDone()) {
+                finishClone();
+            }
+            return;
+        }
+
+        if (ready.size() < size && ticksUntilCreate == 0) {
+            ticksUntilCreate = CREATE_COOLDOWN_TICKS;
+            if (templateName != null) {
+                startClone();
+                return;
+            }
+
+            long start = System.nanoTime();
+            World world = createWorld(worldType);
+            if (world == null) {
+                plugin.getLogger().warning("Failed to create a pooled game world");
+                return;
+            }
+            warming = new WarmingWorld(world, start);
+        }
+    }
+
+    private void startClone() {
+        Path template = WorldTemplate.resolve(templateName);
+        String worldName = newWorldName();
+        cloningStartNanos = System.nanoTime();
+        cloning = CompletableFuture.supplyAsync(() -> {
+            try {
+                WorldTemplate.copy(template, worldName);
+                return worldName;
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to clone template " + templateName, e);
+            }
+        }, copyExecutor);
+    }
+
+    private void finishClone() {
+        CompletableFuture<String> finished = cloning;
+        cloning = null;
+        try {
+            // Copied chunks already exist on disk, so loading is quick and needs no pregeneration
+            World world = WorldTemplate.load(finished.join());
+            if (world == null) {
+                plugin.getLogger().warning("Failed to load a cloned game world");
+                return;
+            }
+            warmNanosTotal += System.nanoTime() - cloningStartNanos;
+            warmedWorlds++;
+            ready.add(world);
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to clone a pooled game world", e);
+        }
+    }
+
+    private World cloneTemplateNow() {
+        try {
+            return WorldTemplate.cloneNow(templateName, newWorldName());
+        } catch (IOException | IllegalArgumentException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to clone template " + templateName + "; generating instead", e);
+            return createWorld(worldType);
+        }
+    }
+
+    private void discard(World world) {
+        if (Bukkit.unloadWorld(world, false)) {
+            MinigameManager.plugin.getWorldDeleter().delete(world.getWorldFolder().toPath());
+        }
+    }
+
+    /**
+     * A pooled world whose spawn area is still being generated, walked in a square spiral.
+     */
+    private final class WarmingWorld {
+        private final World world;
+        private final long startNanos;
+        private final int centerX;
+        private final int centerZ;
+        private final int total;
+        private int requested;
+        private int completed;
+        private int spiralX;
+        private int spiralZ;
+        private int dirX = 1;
+        private int dirZ;
+        private int legLength = 1;
+        private int legProgress;
+        private int legsAtLength;
+
+        private WarmingWorld(World world, long startNanos) {
+            this.world = world;
+            this.startNanos = startNanos;
+            this.centerX = world.getSpawnLocation().getBlockX() >> 4;
+            this.centerZ = world.getSpawnLocation().getBlockZ() >> 4;
+            int diameter = pregenerationRadius * 2 + 1;
+            this.total = diameter * diameter;
+        }
+
+        private void requestChunks() {
+            int maxInFlight = chunksPerTick * MAX_IN_FLIGHT_PER_RATE;
+            for (int i = 0; i < chunksPerTick && requested < total && requested - completed < maxInFlight; i++) {
+                world.getChunkAtAsync(centerX + spiralX, centerZ + spiralZ, true).whenComplete((chunk, error) -> {
+                    if (error != null) {
+                        plugin.getLogger().log(Level.WARNING, "Failed to pregenerate a chunk in " + world.getName(), error);
+                    }
+                    completed++;
+                });
+                requested++;
+                advanceSpiral();
+            }
+        }
+
+        private void advanceSpiral() {
+            spiralX += dirX;
+            spiralZ += dirZ;
+            if (++legProgress == legLength) {
+                legProgress = 0;
+                // Turn left
+                int oldDirX = dirX;
+                dirX = -dirZ;
+                dirZ = oldDirX;
+                if (++legsAtLength == 2) {
+                    legsAtLength = 0;
+                    legLength++;
+                }
+            }
+        }
+
+        private boolean isDone() {
+            return completed >= total;
+        }
+    }
+}
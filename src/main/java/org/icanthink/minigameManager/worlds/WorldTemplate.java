@@ -0,0 +1,114 @@
+package org.icanthink.minigameManager.worlds;
+
+import net.kyori.adventure.util.TriState;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Set;
+
+/**
+ * Creates game worlds by cloning a prepared template world folder instead of generating terrain.
+ * The template is a normal world folder inside the server's world container that is not loaded.
+ */
+public final class WorldTemplate {
+    // Identity and lock files must be unique per world; player files belong to the template's testers
+    private static final Set<String> SKIPPED_FILES = Set.of("uid.dat", "session.lock");
+    private static final Set<String> SKIPPED_DIRECTORIES = Set.of("playerdata", "stats", "advancements");
+
+    private WorldTemplate() {
+    }
+
+    /**
+     * Find a template folder by name and check that it can be cloned.
+     *
+     * @param templateName The name of the template folder in the world container
+     * @return The template folder
+     * @throws IllegalArgumentException If the template does not exist or is loaded as a world
+     */
+    public static Path resolve(String templateName) {
+        Path template = Bukkit.getWorldContainer().toPath().resolve(templateName).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(template.resolve("level.dat"))) {
+            throw new IllegalArgumentException("World template not found: " + templateName);
+        }
+        if (Bukkit.getWorld(templateName) != null) {
+            throw new IllegalArgumentException("World template " + templateName + " is loaded and cannot be cloned");
+        }
+        return template;
+    }
+
+    /**
+     * Copy a template folder to a new world folder in the world container. Safe to call off the main thread.
+     *
+     * Region files are copied rather than hardlinked: the server rewrites region files in place,
+     * so a hardlinked clone would write its changes straight back into the template.
+     *
+     * @param template The template folder
+     * @param worldName The name of the new world
+     * @return The new world folder
+     * @throws IOException If copying failed; the partial copy is removed
+     */
+    public static Path copy(Path template, String worldName) throws IOException {
+        Path target = Bukkit.getWorldContainer().toPath().resolve(worldName).toAbsolutePath().normalize();
+        if (Files.exists(target)) {
+            throw new IOException("World folder already exists: " + target);
+        }
+
+        try {
+            Files.walkFileTree(template, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    if (!dir.equals(template) && SKIPPED_DIRECTORIES.contains(dir.getFileName().toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    Files.createDirectories(target.resolve(template.relativize(dir)));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (!SKIPPED_FILES.contains(file.getFileName().toString())) {
+                        Files.copy(file, target.resolve(template.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            WorldFiles.deleteRecursively(target);
+            throw e;
+        }
+        return target;
+    }
+
+    /**
+     * Load a world folder that was copied from a template. Must be called on the main thread.
+     *
+     * @param worldName The name of the copied world
+     * @return The loaded world, or null if loading failed
+     */
+    public static World load(String worldName) {
+        WorldCreator creator = new WorldCreator(worldName);
+        creator.keepSpawnLoaded(TriState.FALSE);
+        return creator.createWorld();
+    }
+
+    /**
+     * Clone a template and load the clone right away on the calling (main) thread.
+     *
+     * @param templateName The name of the template folder in the world container
+     * @param worldName The name of the new world
+     * @return The loaded world, or null if loading failed
+     * @throws IOException If the template could not be copied
+     */
+    public static World cloneNow(String templateName, String worldName) throws IOException {
+        copy(resolve(templateName), worldName);
+        return load(worldName);
+    }
+}
@@ -0,0 +1,104 @@
+package org.icanthink.minigameManager.simulation;
+
+import org.bukkit.Location;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Synthetic player input for one game: movement, damage, item use and chat.
+ * Rates are per player per tick and roughly follow a group of players exploring and fighting mobs.
+ */
+public class EventStream {
+    private static final double MOVE_CHANCE = 0.8;
+    private static final double DAMAGE_CHANCE = 0.02;
+    private static final double INTERACT_CHANCE = 0.01;
+    private static final double CHAT_CHANCE = 0.005;
+    private static final double DAMAGE = 1.0;
+    private static final double MIN_HEALTH = 10.0; // Healed back up before the damage could kill
+
+    private final ServerMock server;
+    private final List<PlayerMock> players;
+    private final Random random;
+    private long fired;
+
+    public EventStream(ServerMock server, List<PlayerMock> players, long seed) {
+        this.server = server;
+        this.players = players;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Fire this tick's events on the main thread. Chat is handed to the chat thread,
+     * like the server does with incoming chat packets.
+     *
+     * @param chatThread Executor standing in for the async chat thread
+     * @return A future that completes once this tick's chat events were handled
+     */
+    public CompletableFuture<Void> fireTick(ExecutorService chatThread) {
+        CompletableFuture<Void> chat = CompletableFuture.completedFuture(null);
+        for (PlayerMock player : players) {
+            if (random.nextDouble() < MOVE_CHANCE) {
+                move(player);
+            }
+            if (random.nextDouble() < DAMAGE_CHANCE) {
+                damage(player);
+            }
+            if (random.nextDouble() < INTERACT_CHANCE) {
+                interact(player);
+            }
+            if (random.nextDouble() < CHAT_CHANCE) {
+                String message = "message " + fired++;
+                chat = chat.thenRunAsync(() -> chat(player, message), chatThread);
+            }
+        }
+        return chat;
+    }
+
+    /**
+     * Get the number of events fired so far.
+     *
+     * @return The event count
+     */
+    public long getFiredCount() {
+        return fired;
+    }
+
+    private void move(PlayerMock player) {
+        Location to = player.getLocation().add(random.nextGaussian() * 0.3, 0, random.nextGaussian() * 0.3);
+        to.setYaw(to.getYaw() + (float) random.nextGaussian() * 10);
+        player.simulatePlayerMove(to);
+        fired++;
+    }
+
+    private void damage(PlayerMock player) {
+        if (player.getHealth() < MIN_HEALTH) {
+            AttributeInstance maxHealth = player.getAttribute(Attribute.MAX_HEALTH);
+            player.setHealth(maxHealth != null ? maxHealth.getValue() : 20.0);
+        }
+        player.damage(DAMAGE);
+        fired++;
+    }
+
+    private void interact(PlayerMock player) {
+        server.getPluginManager().callEvent(new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR,
+            player.getInventory().getItemInMainHand(), null, BlockFace.SELF));
+        fired++;
+    }
+
+    private void chat(PlayerMock player, String message) {
+        server.getPluginManager().callEvent(new AsyncPlayerChatEvent(true, player, message,
+            new HashSet<>(server.getOnlinePlayers())));
+    }
+}
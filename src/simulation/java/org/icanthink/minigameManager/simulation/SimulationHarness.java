@@ -0,0 +1,204 @@
+package org.icanthink.minigameManager.simulation;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import org.icanthink.minigameManager.Minigame;
+import org.icanthink.minigameManager.MinigameManager;
+import org.icanthink.minigameManager.features.Feature;
+import org.icanthink.minigameManager.features.FeatureScope;
+import org.icanthink.minigameManager.games.grouphardcore.GroupHardcore;
+import org.icanthink.minigameManager.profiling.TickProfiler;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs GroupHardcore games with fake players on MockBukkit's in-process server.
+ * Every tick fires synthetic player input and advances the scheduler, and records the main-thread
+ * time and allocations of the tick. At the end the games are stopped and checked for leftover
+ * handlers, tasks and boss bars; the process exits with status 1 if anything leaked.
+ * Usage: SimulationHarness [games] [players per game] [ticks], or ./gradlew simulate
+ */
+public final class SimulationHarness {
+    private static final long TICK_NANOS = 50_000_000L;
+    private static final int END_TICKS = 220; // GroupHardcore deletes its world 200 ticks after ending
+    private static final int MAX_SOURCES = 5; // Most expensive classes to list per game
+
+    private SimulationHarness() {
+    }
+
+    public static void main(String[] args) {
+        int gameCount = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int playersPerGame = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int ticks = args.length > 2 ? Integer.parseInt(args[2]) : 1200;
+
+        ServerMock server = MockBukkit.mock();
+        ExecutorService chatThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Simulated chat thread");
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean passed;
+        try {
+            server.addSimpleWorld("world");
+            MinigameManager plugin = MockBukkit.load(MinigameManager.class);
+            // Worlds are created on demand; the pool's chunk pre-generation needs a real server
+            plugin.getWorldPool().shutdown();
+            plugin.getProfiler().setEnabled(true);
+
+            List<Minigame> games = new ArrayList<>();
+            List<EventStream> streams = new ArrayList<>();
+            for (int i = 0; i < gameCount; i++) {
+                List<PlayerMock> players = new ArrayList<>();
+                for (int j = 0; j < playersPerGame; j++) {
+                    players.add(server.addPlayer("sim" + i + "_" + j));
+                }
+
+                GroupHardcore game = new GroupHardcore(players.get(0).getWorld());
+                for (PlayerMock player : players) {
+                    game.playerJoin(player);
+                }
+                if (plugin.getGameRegistry().start(game) == null) {
+                    System.out.println("SIM" + i + " did not start");
+                }
+
+                games.add(game);
+                streams.add(new EventStream(server, players, i));
+            }
+
+            System.out.printf("Running %d games with %d players each for %d ticks%n", gameCount, playersPerGame, ticks);
+            Samples tickTimes = new Samples(ticks);
+            Samples tickAllocations = new Samples(ticks);
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long wallStart = System.nanoTime();
+
+            for (int tick = 0; tick < ticks; tick++) {
+                long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+
+                List<CompletableFuture<Void>> chat = new ArrayList<>();
+                for (EventStream stream : streams) {
+                    chat.add(stream.fireTick(chatThread));
+                }
+                server.getScheduler().performOneTick();
+
+                long elapsed = System.nanoTime() - start;
+                tickTimes.add(elapsed);
+                tickAllocations.add(threads.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                server.getPluginManager().callEvent(new ServerTickEndEvent(tick + 1, elapsed / 1_000_000.0,
+                    Math.max(0, TICK_NANOS - elapsed)));
+
+                // Async chat is waited for outside the timed part, so it does not count as main-thread time
+                chat.forEach(CompletableFuture::join);
+            }
+
+            double wallSeconds = (System.nanoTime() - wallStart) / 1_000_000_000.0;
+            long events = streams.stream().mapToLong(EventStream::getFiredCount).sum();
+            System.out.printf("Fired %d events in %.1fs%n", events, wallSeconds);
+            System.out.printf("Main thread per tick: %.3fms mean, %.3fms p99, %.3fms max%n",
+                tickTimes.mean() / 1_000_000.0, tickTimes.percentile(0.99) / 1_000_000.0, tickTimes.max() / 1_000_000.0);
+            System.out.printf("Allocated per tick: %.1fKB mean, %.1fKB p99 (%.1fMB/s at 20 TPS)%n",
+                tickAllocations.mean() / 1024.0, tickAllocations.percentile(0.99) / 1024.0,
+                tickAllocations.mean() * 20 / (1024.0 * 1024.0));
+
+            TickProfiler profiler = plugin.getProfiler();
+            for (int i = 0; i < games.size(); i++) {
+                printReport("SIM" + i, profiler.report(games.get(i)));
+            }
+
+            for (Minigame game : games) {
+                game.end();
+            }
+            server.getScheduler().performTicks(END_TICKS);
+
+            passed = true;
+            for (int i = 0; i < games.size(); i++) {
+                passed &= checkLeaks("SIM" + i, plugin, games.get(i));
+            }
+        } finally {
+            chatThread.shutdownNow();
+            MockBukkit.unmock();
+        }
+
+        System.out.println(passed ? "No leaks found" : "Leaks found");
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static void printReport(String gameId, TickProfiler.Report report) {
+        if (report == null) {
+            System.out.println(gameId + ": nothing recorded");
+            return;
+        }
+
+        TickProfiler.SourceStats total = report.total();
+        System.out.printf("%s handlers: %.3fms mean, %.3fms p99, %.3fms max (last %d ticks)%n", gameId,
+            total.meanMillis(), total.p99Millis(), total.maxMillis(), total.ticks());
+        for (TickProfiler.SourceStats source : report.sources().subList(0, Math.min(MAX_SOURCES, report.sources().size()))) {
+            String name = source.name().substring(source.name().lastIndexOf('.') + 1);
+            System.out.printf("  - %s: %.3fms mean, %.3fms p99%n", name, source.meanMillis(), source.p99Millis());
+        }
+    }
+
+    /**
+     * Check that an ended game left no handlers, tasks or boss bars behind.
+     *
+     * @return true if nothing leaked
+     */
+    private static boolean checkLeaks(String gameId, MinigameManager plugin, Minigame game) {
+        int handlers = plugin.getEventRouter().getHandlerCount(game);
+        int tasks = 0;
+        int bossBars = 0;
+        for (Feature feature : game.getFeatures()) {
+            FeatureScope scope = feature.getScope();
+            tasks += scope.getLiveTaskCount();
+            bossBars += scope.getBossBarCount();
+        }
+
+        if (handlers == 0 && tasks == 0 && bossBars == 0) return true;
+        System.out.printf("%s leaked %d handlers, %d tasks and %d boss bars%n", gameId, handlers, tasks, bossBars);
+        return false;
+    }
+
+    /**
+     * Fixed-size record of one value per tick.
+     */
+    private static final class Samples {
+        private final long[] values;
+        private int count;
+
+        private Samples(int capacity) {
+            this.values = new long[capacity];
+        }
+
+        private void add(long value) {
+            values[count++] = value;
+        }
+
+        private double mean() {
+            if (count == 0) return 0;
+            long sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += values[i];
+            }
+            return sum / (double) count;
+        }
+
+        private long percentile(double fraction) {
+            if (count == 0) return 0;
+            long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            return sorted[Math.min(count - 1, Math.max(0, (int) Math.ceil(count * fraction) - 1))];
+        }
+
+        private long max() {
+            return percentile(1.0);
+        }
+    }
+}